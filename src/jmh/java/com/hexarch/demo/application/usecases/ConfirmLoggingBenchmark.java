@@ -0,0 +1,113 @@
+package com.hexarch.demo.application.usecases;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.hexarch.demo.domain.model.*;
+import com.hexarch.demo.infrastructure.adapters.email.MockEmailServiceAdapter;
+import com.hexarch.demo.infrastructure.adapters.payment.MockPaymentServiceAdapter;
+import com.hexarch.demo.support.InMemoryCustomerRepository;
+import com.hexarch.demo.support.InMemoryOrderRepository;
+import com.hexarch.demo.support.NoOpPorts;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Confirm plus confirmation email with adapter logging off, on through a synchronous JSON file appender,
+// and on through the ring-buffer async appender used by the prod logging profile
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ConfirmLoggingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Logging {
+        @Param({"quiet", "verbose-sync", "verbose-async"})
+        private String mode;
+
+        private LoggerContext context;
+
+        @Setup
+        public void setUp() {
+            context = (LoggerContext) LoggerFactory.getILoggerFactory();
+            context.reset();
+
+            LogstashEncoder encoder = new LogstashEncoder();
+            encoder.setContext(context);
+            encoder.start();
+            FileAppender<ILoggingEvent> file = new FileAppender<>();
+            file.setContext(context);
+            file.setName("FILE");
+            file.setFile("target/jmh-confirm-logging.json");
+            file.setAppend(false);
+            file.setEncoder(encoder);
+            // Behind the async appender the worker flushes once per drained batch instead of per event
+            file.setImmediateFlush(!mode.equals("verbose-async"));
+            file.start();
+
+            Appender<ILoggingEvent> appender = file;
+            if (mode.equals("verbose-async")) {
+                LoggingEventAsyncDisruptorAppender async = new LoggingEventAsyncDisruptorAppender();
+                async.setContext(context);
+                async.setName("ASYNC");
+                async.setRingBufferSize(8192);
+                async.setAppendTimeout(ch.qos.logback.core.util.Duration.buildByMilliseconds(0));
+                async.addAppender(file);
+                async.start();
+                appender = async;
+            }
+
+            ch.qos.logback.classic.Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+            root.setLevel(Level.INFO);
+            root.addAppender(appender);
+            context.getLogger("com.hexarch.demo").setLevel(mode.equals("quiet") ? Level.INFO : Level.DEBUG);
+        }
+
+        @TearDown
+        public void tearDown() {
+            context.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Pipeline {
+        private InMemoryOrderRepository orderRepository;
+        private ConfirmOrderUseCase confirmOrderUseCase;
+        private MockEmailServiceAdapter emailService;
+        private Customer customer;
+        private List<OrderItem> items;
+
+        @Setup
+        public void setUp() {
+            customer = new Customer(CustomerId.generate(), "Bench", "bench@example.com");
+            InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+            customerRepository.save(customer);
+            orderRepository = new InMemoryOrderRepository();
+            confirmOrderUseCase = new ConfirmOrderUseCase(orderRepository, customerRepository,
+                    new MockPaymentServiceAdapter(0, 0, 0, 0, 0, 0), NoOpPorts.emailOutbox(),
+                    NoOpPorts.customerOrderStats(), NoOpPorts.transactionManager());
+            emailService = new MockEmailServiceAdapter();
+            items = List.of(new OrderItem("Widget", Money.of(19.99, "USD"), 2),
+                    new OrderItem("Gadget", Money.of(5.00, "USD"), 1));
+        }
+    }
+
+    @Benchmark
+    public Order confirmAndEmail(Logging logging, Pipeline pipeline) {
+        Order order = pipeline.orderRepository.save(new Order(OrderId.generate(), pipeline.customer.getId(), pipeline.items));
+        Order paid = pipeline.confirmOrderUseCase.execute(new ConfirmOrderUseCase.ConfirmOrderCommand(order.getId()));
+        pipeline.emailService.sendOrderConfirmationEmail(pipeline.customer.getEmail(), paid.getId().toString(),
+                ConfirmOrderUseCase.buildOrderDetails(paid));
+        pipeline.orderRepository.clear();
+        return paid;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.hexarch.demo.application.usecases;
+
+import com.hexarch.demo.domain.model.*;
+import com.hexarch.demo.support.InMemoryCustomerRepository;
+import com.hexarch.demo.support.InMemoryOrderRepository;
+import com.hexarch.demo.support.NoOpPorts;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Use case cost without I/O: ports are in-memory and payment always approves
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfirmOrderBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private Order order;
+    private InMemoryOrderRepository orderRepository;
+    private CreateOrderUseCase createOrderUseCase;
+    private ConfirmOrderUseCase confirmOrderUseCase;
+    private CreateOrderUseCase.CreateOrderCommand createCommand;
+
+    @Setup
+    public void setUp() {
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        List<CreateOrderUseCase.CreateOrderItemCommand> itemCommands = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderItem("Product " + i, Money.of(19.99, "USD"), 1 + i % 3));
+            itemCommands.add(new CreateOrderUseCase.CreateOrderItemCommand("Product " + i, 19.99, "USD", 1 + i % 3));
+        }
+        order = new Order(OrderId.generate(), CustomerId.generate(), items);
+
+        Customer customer = new Customer(CustomerId.generate(), "Bench", "bench@example.com");
+        InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+        customerRepository.save(customer);
+        orderRepository = new InMemoryOrderRepository();
+        createOrderUseCase = new CreateOrderUseCase(orderRepository, customerRepository, NoOpPorts.customerOrderStats());
+        confirmOrderUseCase = new ConfirmOrderUseCase(orderRepository, customerRepository,
+                (reference, amount) -> true, NoOpPorts.emailOutbox(), NoOpPorts.customerOrderStats(),
+                NoOpPorts.transactionManager());
+        createCommand = new CreateOrderUseCase.CreateOrderCommand(customer.getId(), itemCommands);
+    }
+
+    @Benchmark
+    public String buildOrderDetails() {
+        return ConfirmOrderUseCase.buildOrderDetails(order);
+    }
+
+    @Benchmark
+    public Order createAndConfirm() {
+        Order created = createOrderUseCase.execute(createCommand);
+        Order paid = confirmOrderUseCase.execute(new ConfirmOrderUseCase.ConfirmOrderCommand(created.getId()));
+        orderRepository.clear();
+        return paid;
+    }
+}
\ No newline at end of file
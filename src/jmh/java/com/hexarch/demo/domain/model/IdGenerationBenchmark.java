@@ -0,0 +1,28 @@
+package com.hexarch.demo.domain.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// UUID.randomUUID() draws from one shared SecureRandom; the time-ordered ids draw from ThreadLocalRandom.
+// Run with -t 1 and -t 8 to see how each scales with threads.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class IdGenerationBenchmark {
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public OrderId timeOrderedOrderId() {
+        return OrderId.generate();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.hexarch.demo.domain.model;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+// The BigDecimal-backed Money this repo used before minor units, kept as a benchmark baseline
+final class LegacyMoney {
+    private final BigDecimal amount;
+    private final String currency;
+
+    LegacyMoney(BigDecimal amount, String currency) {
+        this.amount = Objects.requireNonNull(amount, "Amount cannot be null");
+        this.currency = Objects.requireNonNull(currency, "Currency cannot be null");
+
+        if (amount.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("Amount cannot be negative");
+        }
+    }
+
+    static LegacyMoney of(double amount, String currency) {
+        return new LegacyMoney(BigDecimal.valueOf(amount), currency);
+    }
+
+    static LegacyMoney zero(String currency) {
+        return new LegacyMoney(BigDecimal.ZERO, currency);
+    }
+
+    LegacyMoney add(LegacyMoney other) {
+        if (!this.currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Cannot add money with different currencies");
+        }
+        return new LegacyMoney(this.amount.add(other.amount), this.currency);
+    }
+
+    LegacyMoney multiply(int quantity) {
+        return new LegacyMoney(amount.multiply(BigDecimal.valueOf(quantity)), currency);
+    }
+}
\ No newline at end of file
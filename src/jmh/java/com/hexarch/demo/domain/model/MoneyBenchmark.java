@@ -0,0 +1,80 @@
+package com.hexarch.demo.domain.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final int AGGREGATE_SIZE = 100;
+
+    private Money price;
+    private Money otherPrice;
+    private Money[] prices;
+
+    private LegacyMoney legacyPrice;
+    private LegacyMoney legacyOtherPrice;
+    private LegacyMoney[] legacyPrices;
+
+    private int quantity;
+
+    @Setup
+    public void setUp() {
+        price = Money.of(19.99, "USD");
+        otherPrice = Money.of(5.25, "USD");
+        legacyPrice = LegacyMoney.of(19.99, "USD");
+        legacyOtherPrice = LegacyMoney.of(5.25, "USD");
+        quantity = 7;
+
+        prices = new Money[AGGREGATE_SIZE];
+        legacyPrices = new LegacyMoney[AGGREGATE_SIZE];
+        for (int i = 0; i < AGGREGATE_SIZE; i++) {
+            prices[i] = Money.of(i + 0.99, "USD");
+            legacyPrices[i] = LegacyMoney.of(i + 0.99, "USD");
+        }
+    }
+
+    @Benchmark
+    public Money add() {
+        return price.add(otherPrice);
+    }
+
+    @Benchmark
+    public LegacyMoney addLegacy() {
+        return legacyPrice.add(legacyOtherPrice);
+    }
+
+    @Benchmark
+    public Money multiply() {
+        return price.multiply(quantity);
+    }
+
+    @Benchmark
+    public LegacyMoney multiplyLegacy() {
+        return legacyPrice.multiply(quantity);
+    }
+
+    @Benchmark
+    public Money aggregate() {
+        Money total = Money.zero("USD");
+        for (Money p : prices) {
+            total = total.add(p);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public LegacyMoney aggregateLegacy() {
+        LegacyMoney total = LegacyMoney.zero("USD");
+        for (LegacyMoney p : legacyPrices) {
+            total = total.add(p);
+        }
+        return total;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.hexarch.demo.domain.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderTotalBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private List<OrderItem> items;
+    private Order order;
+    private LegacyMoney[] legacyUnitPrices;
+    private int[] quantities;
+
+    @Setup
+    public void setUp() {
+        items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderItem("Product " + i, Money.of(9.99, "USD"), i % 5 + 1));
+        }
+        order = new Order(OrderId.generate(), CustomerId.generate(), items);
+
+        legacyUnitPrices = new LegacyMoney[itemCount];
+        quantities = new int[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            legacyUnitPrices[i] = LegacyMoney.of(9.99, "USD");
+            quantities[i] = i % 5 + 1;
+        }
+    }
+
+    @Benchmark
+    public Money cachedTotal() {
+        return order.getTotalAmount();
+    }
+
+    // The original implementation: multiply every line and reduce through BigDecimal Money on each call
+    @Benchmark
+    public LegacyMoney recomputedTotal() {
+        LegacyMoney total = LegacyMoney.zero("USD");
+        for (int i = 0; i < legacyUnitPrices.length; i++) {
+            total = total.add(legacyUnitPrices[i].multiply(quantities[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Order constructOrder() {
+        return new Order(OrderId.generate(), CustomerId.generate(), items);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.hexarch.demo.infrastructure.adapters.eventstore;
+
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.model.Order;
+import com.hexarch.demo.domain.model.OrderId;
+import com.hexarch.demo.domain.model.OrderItem;
+import com.hexarch.demo.domain.model.OrderStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// The event-store profile's order adapter. Every append is forced to disk, so write throughput depends
+// on how many writers share a group commit: compare -t 1 with the default four threads.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class EventStoreBenchmark {
+    private static final int SETTLED_ORDERS = 10_000;
+
+    private Path directory;
+    private EventSourcedOrderRepositoryAdapter orders;
+    private CustomerId customerId;
+    private List<OrderItem> items;
+    private OrderId[] settled;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("event-store-bench");
+        orders = new EventSourcedOrderRepositoryAdapter(directory, 64 * 1024 * 1024, 2);
+        customerId = CustomerId.generate();
+        items = List.of(new OrderItem("Product A", Money.of(10.0, "USD"), 2),
+                new OrderItem("Product B", Money.of(5.0, "USD"), 1));
+        // Created, confirmed and paid, so each reads back from its Snapshotted record
+        settled = new OrderId[SETTLED_ORDERS];
+        for (int i = 0; i < SETTLED_ORDERS; i++) {
+            Order order = orders.save(new Order(OrderId.generate(), customerId, items));
+            order.confirm();
+            order.markAsPaid();
+            orders.compareAndSetStatus(order, OrderStatus.CREATED);
+            settled[i] = order.getId();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        orders.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean createAndConfirmOrder() {
+        Order order = orders.save(new Order(OrderId.generate(), customerId, items));
+        order.confirm();
+        return orders.compareAndSetStatus(order, OrderStatus.CREATED);
+    }
+
+    @Benchmark
+    public Order findSettledOrder() {
+        return orders.findById(settled[ThreadLocalRandom.current().nextInt(SETTLED_ORDERS)]).orElseThrow();
+    }
+}
\ No newline at end of file
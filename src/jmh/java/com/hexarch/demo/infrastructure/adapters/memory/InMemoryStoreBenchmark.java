@@ -0,0 +1,72 @@
+package com.hexarch.demo.infrastructure.adapters.memory;
+
+import com.hexarch.demo.domain.model.Customer;
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.model.Order;
+import com.hexarch.demo.domain.model.OrderId;
+import com.hexarch.demo.domain.model.OrderItem;
+import com.hexarch.demo.domain.model.OrderStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Order intake on the memory profile's adapters: every save and status change is also appended to the
+// change log. Run with -p sync=true to see the cost of forcing each change to disk.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class InMemoryStoreBenchmark {
+
+    @Param({"false"})
+    private boolean sync;
+
+    private Path directory;
+    private InMemoryStore store;
+    private InMemoryOrderRepositoryAdapter orders;
+    private CustomerId customerId;
+    private List<OrderItem> items;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("memory-store-bench");
+        store = new InMemoryStore(directory, sync);
+        orders = new InMemoryOrderRepositoryAdapter(store);
+        customerId = new InMemoryCustomerRepositoryAdapter(store)
+                .save(new Customer(CustomerId.generate(), "Bench", "bench@example.com")).getId();
+        items = List.of(new OrderItem("Product A", Money.of(10.0, "USD"), 2),
+                new OrderItem("Product B", Money.of(5.0, "USD"), 1));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return orders.save(new Order(OrderId.generate(), customerId, items));
+    }
+
+    @Benchmark
+    public boolean createAndConfirmOrder() {
+        Order order = orders.save(new Order(OrderId.generate(), customerId, items));
+        order.confirm();
+        return orders.compareAndSetStatus(order, OrderStatus.CREATED);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.hexarch.demo.infrastructure.adapters.payment;
+
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.ports.PaymentService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Concurrent confirms against the mock provider, one call per payment vs coalesced batch captures.
+// SampleTime reports the latency percentiles each caller sees; Throughput the payments per second.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class PaymentBatchingBenchmark {
+
+    private static final Money AMOUNT = Money.of(49.99, "USD");
+
+    @Param({"5"})
+    private long providerLatencyMillis;
+
+    @Param({"64"})
+    private int maxConcurrentCalls;
+
+    private ResilientPaymentService perCall;
+    private PaymentBatchCoalescer coalesced;
+
+    @Setup
+    public void setUp() {
+        perCall = guarded(provider());
+        coalesced = new PaymentBatchCoalescer(guarded(provider()), 50, Duration.ofMillis(2), Duration.ofSeconds(5));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        perCall.close();
+        coalesced.close();
+    }
+
+    @Benchmark
+    public boolean perCallCapture() {
+        return perCall.processPayment("PAY-" + UUID.randomUUID(), AMOUNT);
+    }
+
+    @Benchmark
+    public boolean coalescedCapture() {
+        return coalesced.processPayment("PAY-" + UUID.randomUUID(), AMOUNT);
+    }
+
+    private PaymentService provider() {
+        return new MockPaymentServiceAdapter(providerLatencyMillis, 0, 0, 0, 0, 0);
+    }
+
+    private ResilientPaymentService guarded(PaymentService provider) {
+        return new ResilientPaymentService(provider, new ResilientPaymentService.Settings(
+                Duration.ofSeconds(2), maxConcurrentCalls, Duration.ofSeconds(1),
+                20, 10, 0.5, Duration.ofSeconds(10), 3, null));
+    }
+}
\ No newline at end of file
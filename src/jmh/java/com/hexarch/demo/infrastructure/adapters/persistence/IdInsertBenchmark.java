@@ -0,0 +1,95 @@
+package com.hexarch.demo.infrastructure.adapters.persistence;
+
+import com.hexarch.demo.domain.model.OrderId;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Inserts into an orders-shaped table that already holds tableSize rows, with the old random 36-character
+// keys, random BINARY(16) keys, and time-ordered BINARY(16) keys. Uses an H2 in-memory database, whose
+// B-tree behaves like a clustered index for this purpose; MySQL's InnoDB shows the same pattern with a
+// larger gap once the index no longer fits in the buffer pool.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"random-char36", "random-binary16", "ordered-binary16"})
+    private String keyLayout;
+
+    @Param({"1000000"})
+    private int tableSize;
+
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:ids-" + keyLayout + ";DB_CLOSE_DELAY=-1");
+        connection.setAutoCommit(false);
+        String keyType = keyLayout.endsWith("char36") ? "char(36)" : "binary(16)";
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("create table orders (id " + keyType + " primary key, customer_id " + keyType + " not null,"
+                    + " status varchar(16) not null, created_at timestamp not null)");
+            ddl.execute("create index idx_orders_customer_created on orders (customer_id, created_at, id)");
+        }
+        insert = connection.prepareStatement(
+                "insert into orders (id, customer_id, status, created_at) values (?, ?, 'CREATED', ?)");
+        for (int loaded = 0; loaded < tableSize; loaded += BATCH_SIZE) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    // One operation is one committed batch of BATCH_SIZE orders
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            bindKey(1, nextKey());
+            bindKey(2, nextKey());
+            insert.setObject(3, now);
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+
+    private UUID nextKey() {
+        return keyLayout.startsWith("ordered") ? OrderId.generate().getValue() : UUID.randomUUID();
+    }
+
+    private void bindKey(int index, UUID key) throws SQLException {
+        if (keyLayout.endsWith("char36")) {
+            insert.setString(index, key.toString());
+        } else {
+            // Big-endian, the layout Hibernate writes for the BINARY(16) id columns
+            insert.setBytes(index, ByteBuffer.allocate(16)
+                    .putLong(key.getMostSignificantBits())
+                    .putLong(key.getLeastSignificantBits())
+                    .array());
+        }
+    }
+}
\ No newline at end of file
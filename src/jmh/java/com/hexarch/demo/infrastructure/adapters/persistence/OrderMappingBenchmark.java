@@ -0,0 +1,73 @@
+package com.hexarch.demo.infrastructure.adapters.persistence;
+
+import com.hexarch.demo.domain.model.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMappingBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private OrderEntity entity;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        CustomerEntity customer = new CustomerEntity(UUID.randomUUID(), "Bench", "bench@example.com");
+        entity = new OrderEntity(UUID.randomUUID(), customer, OrderStatusEntity.PAID,
+                BigDecimal.valueOf(10L * itemCount), "USD", LocalDateTime.now().minusMinutes(5));
+        entity.setConfirmedAt(LocalDateTime.now());
+
+        List<OrderItemEntity> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderItemEntity(entity, "Product " + i, BigDecimal.TEN, "USD", 1));
+        }
+        entity.setItems(items);
+        order = OrderRepositoryAdapter.toDomain(entity);
+    }
+
+    @Benchmark
+    public Order restoreFromSnapshot() {
+        return OrderRepositoryAdapter.toDomain(entity);
+    }
+
+    // Same shape as the insert path, with the customer entity standing in for the reference proxy
+    @Benchmark
+    public OrderEntity toEntityWithItems() {
+        OrderEntity mapped = OrderRepositoryAdapter.toEntity(order, entity.getCustomer());
+        List<OrderItemEntity> items = new ArrayList<>(order.getItems().size());
+        for (OrderItem item : order.getItems()) {
+            items.add(OrderRepositoryAdapter.toItemEntity(item, mapped));
+        }
+        mapped.setItems(items);
+        return mapped;
+    }
+
+    // The previous mapping: public constructor plus replayed transitions
+    @Benchmark
+    public Order replayTransitions() {
+        List<OrderItem> items = entity.getItems().stream()
+                .map(item -> new OrderItem(item.getProductName(),
+                        new Money(item.getUnitPrice(), item.getCurrency()), item.getQuantity()))
+                .toList();
+        Order order = new Order(new OrderId(entity.getId()),
+                new CustomerId(entity.getCustomer().getId()), items);
+        order.confirm();
+        order.markAsPaid();
+        order.clearPendingEvents();
+        return order;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.hexarch.demo.infrastructure.adapters.rest;
+
+import com.hexarch.demo.application.usecases.AsyncConfirmOrderUseCase;
+import com.hexarch.demo.application.usecases.ConfirmOrderUseCase;
+import com.hexarch.demo.application.usecases.CreateOrderUseCase;
+import com.hexarch.demo.application.usecases.CreateOrdersBatchUseCase;
+import com.hexarch.demo.application.usecases.GetOrderUseCase;
+import com.hexarch.demo.application.usecases.ListOrdersUseCase;
+import com.hexarch.demo.domain.model.*;
+import com.hexarch.demo.domain.ports.CustomerOrderStatsRepository;
+import com.hexarch.demo.domain.ports.EmailOutbox;
+import com.hexarch.demo.domain.ports.PaymentService;
+import com.hexarch.demo.support.InMemoryCustomerRepository;
+import com.hexarch.demo.support.InMemoryOrderRepository;
+import com.hexarch.demo.support.NoOpPorts;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderResponseBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private Order order;
+    private OrderController controller;
+    private String customerId;
+
+    @Setup
+    public void setUp() {
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderItem("Product " + i, Money.of(19.99, "USD"), 1 + i % 3));
+        }
+        order = new Order(OrderId.generate(), CustomerId.generate(), items);
+        order.confirm();
+        order.markAsPaid();
+
+        Customer customer = new Customer(order.getCustomerId(), "Bench", "bench@example.com");
+        InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+        customerRepository.save(customer);
+        InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+        orderRepository.save(order);
+        for (int i = 0; i < PAGE_SIZE - 1; i++) {
+            orderRepository.save(new Order(OrderId.generate(), customer.getId(), items));
+        }
+
+        // The controller as Spring wires it, over in-memory ports and an always-approving provider
+        PaymentService paymentService = (reference, amount) -> true;
+        EmailOutbox emailOutbox = NoOpPorts.emailOutbox();
+        CustomerOrderStatsRepository stats = NoOpPorts.customerOrderStats();
+        PlatformTransactionManager transactionManager = NoOpPorts.transactionManager();
+        controller = new OrderController(
+                new CreateOrderUseCase(orderRepository, customerRepository, stats),
+                new ConfirmOrderUseCase(orderRepository, customerRepository, paymentService, emailOutbox, stats,
+                        transactionManager),
+                new GetOrderUseCase(orderRepository),
+                new AsyncConfirmOrderUseCase(orderRepository, customerRepository, paymentService, emailOutbox, stats,
+                        transactionManager, Runnable::run),
+                new CreateOrdersBatchUseCase(orderRepository, customerRepository, stats),
+                new ListOrdersUseCase(orderRepository),
+                false, 1000, PAGE_SIZE);
+        customerId = customer.getId().toString();
+    }
+
+    @Benchmark
+    public OrderController.OrderResponse toOrderResponse() {
+        return OrderController.toOrderResponse(order);
+    }
+
+    @Benchmark
+    public ResponseEntity<OrderController.OrderResponse> getOrder() {
+        return controller.getOrder(order.getId().toString());
+    }
+
+    @Benchmark
+    public ResponseEntity<OrderController.OrderPageResponse> listOrders() {
+        return controller.listOrders(customerId, null, null, null, PAGE_SIZE);
+    }
+}
\ No newline at end of file
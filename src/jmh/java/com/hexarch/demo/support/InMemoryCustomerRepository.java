@@ -0,0 +1,32 @@
+package com.hexarch.demo.support;
+
+import com.hexarch.demo.domain.model.Customer;
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.ports.CustomerRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class InMemoryCustomerRepository implements CustomerRepository {
+    private final Map<CustomerId, Customer> customers = new HashMap<>();
+
+    @Override
+    public Customer save(Customer customer) {
+        customers.put(customer.getId(), customer);
+        return customer;
+    }
+
+    @Override
+    public Optional<Customer> findById(CustomerId customerId) {
+        return Optional.ofNullable(customers.get(customerId));
+    }
+
+    @Override
+    public Set<CustomerId> findExistingIds(Collection<CustomerId> customerIds) {
+        return customerIds.stream().filter(customers::containsKey).collect(Collectors.toSet());
+    }
+}
\ No newline at end of file
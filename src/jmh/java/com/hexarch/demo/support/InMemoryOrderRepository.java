@@ -0,0 +1,98 @@
+package com.hexarch.demo.support;
+
+import com.hexarch.demo.domain.model.Order;
+import com.hexarch.demo.domain.model.OrderId;
+import com.hexarch.demo.domain.model.OrderStatus;
+import com.hexarch.demo.domain.ports.OrderRepository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// Map-backed port for benchmarks that measure use cases and controllers without a database
+public class InMemoryOrderRepository implements OrderRepository {
+    private static final Comparator<Order> NEWEST_FIRST = (left, right) ->
+            compareCreated(right.getCreatedAt(), right.getId(), left.getCreatedAt(), left.getId());
+
+    private final Map<OrderId, Order> orders = new HashMap<>();
+    // Orders are stored by reference, so the stored status is tracked separately for compareAndSetStatus
+    private final Map<OrderId, OrderStatus> statuses = new HashMap<>();
+
+    @Override
+    public Order save(Order order) {
+        orders.put(order.getId(), order);
+        statuses.put(order.getId(), order.getStatus());
+        order.clearPendingEvents();
+        return order;
+    }
+
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        orders.forEach(this::save);
+        return orders;
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        return Optional.ofNullable(orders.get(orderId));
+    }
+
+    @Override
+    public boolean compareAndSetStatus(Order order, OrderStatus expectedStatus) {
+        if (statuses.get(order.getId()) != expectedStatus) {
+            return false;
+        }
+        statuses.put(order.getId(), order.getStatus());
+        order.clearPendingEvents();
+        return true;
+    }
+
+    @Override
+    public List<OrderSummary> search(OrderSearch search) {
+        OrderCursor after = search.after();
+        return orders.values().stream()
+                .filter(order -> search.customerId() == null || order.getCustomerId().equals(search.customerId()))
+                .filter(order -> search.status() == null || statuses.get(order.getId()) == search.status())
+                .filter(order -> search.createdAfter() == null || order.getCreatedAt().isAfter(search.createdAfter()))
+                .filter(order -> after == null
+                        || compareCreated(order.getCreatedAt(), order.getId(), after.createdAt(), after.orderId()) < 0)
+                .sorted(NEWEST_FIRST)
+                .limit(search.limit())
+                .map(this::toSummary)
+                .toList();
+    }
+
+    @Override
+    public void streamSummaries(LocalDateTime createdFrom, LocalDateTime createdTo, Consumer<OrderSummary> sink) {
+        orders.values().stream()
+                .filter(order -> !order.getCreatedAt().isBefore(createdFrom) && order.getCreatedAt().isBefore(createdTo))
+                .sorted(NEWEST_FIRST.reversed())
+                .map(this::toSummary)
+                .forEach(sink);
+    }
+
+    public void clear() {
+        orders.clear();
+        statuses.clear();
+    }
+
+    private OrderSummary toSummary(Order order) {
+        return new OrderSummary(order.getId(), order.getCustomerId(), statuses.get(order.getId()),
+                order.getTotalAmount(), order.getCreatedAt(), order.getConfirmedAt());
+    }
+
+    // Sorted like the SQL listings: createdAt, then the id's bytes as unsigned values (BINARY(16) order)
+    private static int compareCreated(LocalDateTime leftCreatedAt, OrderId left, LocalDateTime rightCreatedAt, OrderId right) {
+        int byTime = leftCreatedAt.compareTo(rightCreatedAt);
+        if (byTime != 0) {
+            return byTime;
+        }
+        int byHigh = Long.compareUnsigned(left.getValue().getMostSignificantBits(), right.getValue().getMostSignificantBits());
+        return byHigh != 0 ? byHigh
+                : Long.compareUnsigned(left.getValue().getLeastSignificantBits(), right.getValue().getLeastSignificantBits());
+    }
+}
\ No newline at end of file
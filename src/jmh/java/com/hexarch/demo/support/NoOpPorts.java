@@ -0,0 +1,81 @@
+package com.hexarch.demo.support;
+
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.model.Order;
+import com.hexarch.demo.domain.model.OrderStatus;
+import com.hexarch.demo.domain.ports.CustomerOrderStatsRepository;
+import com.hexarch.demo.domain.ports.EmailOutbox;
+import com.hexarch.demo.domain.ports.EmailService;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Ports whose side effects are out of scope for the benchmarks; they only consume their arguments
+public final class NoOpPorts {
+    private NoOpPorts() {}
+
+    public static EmailOutbox emailOutbox() {
+        return new EmailOutbox() {
+            @Override
+            public void enqueue(EmailService.OrderConfirmationEmail email) {}
+
+            @Override
+            public List<EmailService.OrderConfirmationEmail> fetchDue(int limit) {
+                return List.of();
+            }
+
+            @Override
+            public void markSent(Collection<String> orderIds) {}
+
+            @Override
+            public void markFailed(Collection<String> orderIds) {}
+        };
+    }
+
+    public static CustomerOrderStatsRepository customerOrderStats() {
+        return new CustomerOrderStatsRepository() {
+            @Override
+            public void initialize(CustomerId customerId) {}
+
+            @Override
+            public void recordCreated(List<Order> orders) {}
+
+            @Override
+            public void recordStatusChange(Order order, OrderStatus previousStatus) {}
+
+            @Override
+            public Optional<CustomerOrderStats> findByCustomerId(CustomerId customerId) {
+                return Optional.empty();
+            }
+
+            @Override
+            public int rebuild() {
+                return 0;
+            }
+        };
+    }
+
+    // Runs TransactionTemplate callbacks, including synchronizations, without a resource behind them
+    public static PlatformTransactionManager transactionManager() {
+        return new AbstractPlatformTransactionManager() {
+            @Override
+            protected Object doGetTransaction() {
+                return new Object();
+            }
+
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+            @Override
+            protected void doCommit(DefaultTransactionStatus status) {}
+
+            @Override
+            protected void doRollback(DefaultTransactionStatus status) {}
+        };
+    }
+}
\ No newline at end of file
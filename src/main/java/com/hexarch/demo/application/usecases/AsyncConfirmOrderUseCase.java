@@ -0,0 +1,137 @@
+package com.hexarch.demo.application.usecases;
+
+import com.hexarch.demo.domain.model.Customer;
+import com.hexarch.demo.domain.model.Order;
+import com.hexarch.demo.domain.model.OrderId;
+import com.hexarch.demo.domain.model.OrderStatus;
+import com.hexarch.demo.domain.ports.CustomerOrderStatsRepository;
+import com.hexarch.demo.domain.ports.CustomerRepository;
+import com.hexarch.demo.domain.ports.EmailOutbox;
+import com.hexarch.demo.domain.ports.OrderRepository;
+import com.hexarch.demo.domain.ports.PaymentService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Service
+public class AsyncConfirmOrderUseCase {
+    private static final int RETAINED_STATUSES = 10_000;
+
+    private final OrderRepository orderRepository;
+    private final CustomerRepository customerRepository;
+    private final PaymentService paymentService;
+    private final EmailOutbox emailOutbox;
+    private final CustomerOrderStatsRepository customerOrderStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor confirmExecutor;
+
+    private final Map<OrderId, ConfirmationStatus> statuses = new ConcurrentHashMap<>();
+    private final Queue<OrderId> finished = new ConcurrentLinkedQueue<>();
+
+    public AsyncConfirmOrderUseCase(
+            OrderRepository orderRepository,
+            CustomerRepository customerRepository,
+            PaymentService paymentService,
+            EmailOutbox emailOutbox,
+            CustomerOrderStatsRepository customerOrderStatsRepository,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("confirmExecutor") Executor confirmExecutor) {
+        this.orderRepository = orderRepository;
+        this.customerRepository = customerRepository;
+        this.paymentService = paymentService;
+        this.emailOutbox = emailOutbox;
+        this.customerOrderStatsRepository = customerOrderStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.confirmExecutor = confirmExecutor;
+    }
+
+    public ConfirmationStatus submit(ConfirmOrderUseCase.ConfirmOrderCommand command) {
+        OrderId orderId = command.orderId();
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+
+        if (order.getStatus() != OrderStatus.CREATED) {
+            throw new IllegalStateException("Only created orders can be confirmed");
+        }
+
+        ConfirmationStatus accepted = new ConfirmationStatus(orderId, ConfirmationState.ACCEPTED, null);
+        ConfirmationStatus previous = statuses.putIfAbsent(orderId, accepted);
+        if (previous != null) {
+            if (!previous.state().isTerminal() || !statuses.replace(orderId, previous, accepted)) {
+                throw new IllegalStateException("Confirmation already in progress for order: " + orderId);
+            }
+        }
+
+        try {
+            confirmExecutor.execute(() -> process(orderId));
+        } catch (RejectedExecutionException e) {
+            statuses.remove(orderId, accepted);
+            throw e;
+        }
+        return accepted;
+    }
+
+    public Optional<ConfirmationStatus> getStatus(OrderId orderId) {
+        return Optional.ofNullable(statuses.get(orderId));
+    }
+
+    void process(OrderId orderId) {
+        statuses.put(orderId, new ConfirmationStatus(orderId, ConfirmationState.PROCESSING, null));
+        try {
+            // Claim the order in its own short transaction, so a concurrent confirm cannot pay as well
+            ConfirmOrderUseCase.Claim claim = ConfirmOrderUseCase.claim(
+                    orderRepository, customerRepository, transactionTemplate, orderId);
+            Order order = claim.order();
+            Customer customer = claim.customer();
+
+            // Pay without holding a connection; a payment that surely failed hands the claim back
+            ConfirmOrderUseCase.pay(paymentService, orderRepository, transactionTemplate, order);
+            order.markAsPaid();
+
+            // Persist the final state and queue the email in one short transaction
+            transactionTemplate.executeWithoutResult(tx -> {
+                if (!orderRepository.compareAndSetStatus(order, OrderStatus.CONFIRMED)) {
+                    throw new IllegalStateException("Order was modified concurrently: " + orderId);
+                }
+                customerOrderStatsRepository.recordStatusChange(order, OrderStatus.CREATED);
+                emailOutbox.enqueue(ConfirmOrderUseCase.confirmationEmail(customer, order));
+            });
+            finish(new ConfirmationStatus(orderId, ConfirmationState.PAID, null));
+        } catch (RuntimeException e) {
+            finish(new ConfirmationStatus(orderId, ConfirmationState.FAILED, e.getMessage()));
+        }
+    }
+
+    private void finish(ConfirmationStatus status) {
+        statuses.put(status.orderId(), status);
+        finished.add(status.orderId());
+        while (finished.size() > RETAINED_STATUSES) {
+            OrderId evicted = finished.poll();
+            if (evicted != null) {
+                statuses.computeIfPresent(evicted, (id, s) -> s.state().isTerminal() ? null : s);
+            }
+        }
+    }
+
+    public enum ConfirmationState {
+        ACCEPTED,
+        PROCESSING,
+        PAID,
+        FAILED;
+
+        public boolean isTerminal() {
+            return this == PAID || this == FAILED;
+        }
+    }
+
+    public record ConfirmationStatus(OrderId orderId, ConfirmationState state, String message) {}
+}
\ No newline at end of file
@@ -3,68 +3,115 @@ package com.hexarch.demo.application.usecases;
 import com.hexarch.demo.domain.model.Customer;
 import com.hexarch.demo.domain.model.Order;
 import com.hexarch.demo.domain.model.OrderId;
+import com.hexarch.demo.domain.model.OrderStatus;
+import com.hexarch.demo.domain.ports.CustomerOrderStatsRepository;
 import com.hexarch.demo.domain.ports.CustomerRepository;
+import com.hexarch.demo.domain.ports.EmailOutbox;
 import com.hexarch.demo.domain.ports.EmailService;
 import com.hexarch.demo.domain.ports.OrderRepository;
 import com.hexarch.demo.domain.ports.PaymentService;
+import com.hexarch.demo.domain.ports.PaymentUnavailableException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class ConfirmOrderUseCase {
     private final OrderRepository orderRepository;
     private final CustomerRepository customerRepository;
     private final PaymentService paymentService;
-    private final EmailService emailService;
+    private final EmailOutbox emailOutbox;
+    private final CustomerOrderStatsRepository customerOrderStatsRepository;
+    private final TransactionTemplate transactionTemplate;
 
     public ConfirmOrderUseCase(
             OrderRepository orderRepository,
             CustomerRepository customerRepository,
             PaymentService paymentService,
-            EmailService emailService) {
+            EmailOutbox emailOutbox,
+            CustomerOrderStatsRepository customerOrderStatsRepository,
+            PlatformTransactionManager transactionManager) {
         this.orderRepository = orderRepository;
         this.customerRepository = customerRepository;
         this.paymentService = paymentService;
-        this.emailService = emailService;
+        this.emailOutbox = emailOutbox;
+        this.customerOrderStatsRepository = customerOrderStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    @Transactional
+    // No transaction spans the payment: the claim commits first, so no row lock is held while the provider
+    // answers and concurrent confirms fail straight away instead of queueing behind it
     public Order execute(ConfirmOrderCommand command) {
-        // Find the order
-        Order order = orderRepository.findById(command.orderId())
-                .orElseThrow(() -> new IllegalArgumentException("Order not found: " + command.orderId()));
+        Claim claim = claim(orderRepository, customerRepository, transactionTemplate, command.orderId());
+        Order order = claim.order();
+        Customer customer = claim.customer();
 
-        // Find the customer
-        Customer customer = customerRepository.findById(order.getCustomerId())
-                .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + order.getCustomerId()));
+        // Process payment
+        pay(paymentService, orderRepository, transactionTemplate, order);
 
-        // Confirm the order
-        order.confirm();
-        Order savedOrder = orderRepository.save(order);
+        // Record the payment and queue the confirmation email in one short transaction
+        order.markAsPaid();
+        transactionTemplate.executeWithoutResult(tx -> {
+            if (!orderRepository.compareAndSetStatus(order, OrderStatus.CONFIRMED)) {
+                throw new IllegalStateException("Order was modified concurrently: " + order.getId());
+            }
+            customerOrderStatsRepository.recordStatusChange(order, OrderStatus.CREATED);
+            emailOutbox.enqueue(confirmationEmail(customer, order));
+        });
 
-        // Process payment
-        String paymentReference = "PAY-" + order.getId().toString();
-        boolean paymentSuccessful = paymentService.processPayment(paymentReference, order.getTotalAmount());
+        return order;
+    }
 
-        if (paymentSuccessful) {
-            order.markAsPaid();
-            savedOrder = orderRepository.save(order);
+    // Loads the order and its customer and moves the order from CREATED to CONFIRMED in one short read-write
+    // transaction, so the reads come from the primary; of concurrent confirms only one claim succeeds
+    static Claim claim(OrderRepository orderRepository, CustomerRepository customerRepository,
+                       TransactionTemplate transactionTemplate, OrderId orderId) {
+        return transactionTemplate.execute(tx -> {
+            Order order = orderRepository.findById(orderId)
+                    .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+            Customer customer = customerRepository.findById(order.getCustomerId())
+                    .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + order.getCustomerId()));
+            order.confirm();
+            if (!orderRepository.compareAndSetStatus(order, OrderStatus.CREATED)) {
+                throw new IllegalStateException("Order was confirmed concurrently: " + orderId);
+            }
+            return new Claim(order, customer);
+        });
+    }
 
-            // Send confirmation email
-            String orderDetails = buildOrderDetails(order);
-            emailService.sendOrderConfirmationEmail(
-                    customer.getEmail(),
-                    order.getId().toString(),
-                    orderDetails
-            );
-        } else {
+    // Hands the claim back only when the customer was certainly not charged: a decline, or a payment turned
+    // away before it reached the provider. Any other failure, an unknown outcome included, leaves the order
+    // CONFIRMED so no retry can charge it twice; such orders are settled by reconciling with the provider.
+    static void pay(PaymentService paymentService, OrderRepository orderRepository,
+                    TransactionTemplate transactionTemplate, Order order) {
+        boolean paymentSuccessful;
+        try {
+            paymentSuccessful = paymentService.processPayment("PAY-" + order.getId(), order.getTotalAmount());
+        } catch (PaymentUnavailableException e) {
+            releaseClaim(orderRepository, transactionTemplate, order);
+            throw e;
+        }
+        if (!paymentSuccessful) {
+            releaseClaim(orderRepository, transactionTemplate, order);
             throw new RuntimeException("Payment processing failed for order: " + order.getId());
         }
+    }
 
-        return savedOrder;
+    // Compensates a committed claim whose payment did not go through, so the order can be confirmed again
+    static void releaseClaim(OrderRepository orderRepository, TransactionTemplate transactionTemplate, Order order) {
+        order.revertConfirmation();
+        transactionTemplate.executeWithoutResult(tx -> orderRepository.compareAndSetStatus(order, OrderStatus.CONFIRMED));
     }
 
-    private String buildOrderDetails(Order order) {
+    static EmailService.OrderConfirmationEmail confirmationEmail(Customer customer, Order order) {
+        return new EmailService.OrderConfirmationEmail(
+                customer.getEmail(),
+                order.getId().toString(),
+                buildOrderDetails(order)
+        );
+    }
+
+    static String buildOrderDetails(Order order) {
         StringBuilder details = new StringBuilder();
         details.append("Order ID: ").append(order.getId()).append("\n");
         details.append("Total Amount: ").append(order.getTotalAmount()).append("\n");
@@ -81,4 +128,6 @@ public class ConfirmOrderUseCase {
     }
 
     public record ConfirmOrderCommand(OrderId orderId) {}
+
+    record Claim(Order order, Customer customer) {}
 }
\ No newline at end of file
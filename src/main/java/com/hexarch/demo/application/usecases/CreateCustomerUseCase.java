@@ -2,24 +2,33 @@ package com.hexarch.demo.application.usecases;
 
 import com.hexarch.demo.domain.model.Customer;
 import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.ports.CustomerOrderStatsRepository;
 import com.hexarch.demo.domain.ports.CustomerRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class CreateCustomerUseCase {
     private final CustomerRepository customerRepository;
+    private final CustomerOrderStatsRepository customerOrderStatsRepository;
 
-    public CreateCustomerUseCase(CustomerRepository customerRepository) {
+    public CreateCustomerUseCase(CustomerRepository customerRepository,
+                                 CustomerOrderStatsRepository customerOrderStatsRepository) {
         this.customerRepository = customerRepository;
+        this.customerOrderStatsRepository = customerOrderStatsRepository;
     }
 
+    @Transactional
     public Customer execute(CreateCustomerCommand command) {
         Customer customer = new Customer(
                 CustomerId.generate(),
                 command.name(),
                 command.email()
         );
-        return customerRepository.save(customer);
+        Customer saved = customerRepository.save(customer);
+        // Start the stats row with the customer so order updates only ever increment it
+        customerOrderStatsRepository.initialize(saved.getId());
+        return saved;
     }
 
     public record CreateCustomerCommand(
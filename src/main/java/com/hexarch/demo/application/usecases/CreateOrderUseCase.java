@@ -1,9 +1,11 @@
 package com.hexarch.demo.application.usecases;
 
 import com.hexarch.demo.domain.model.*;
+import com.hexarch.demo.domain.ports.CustomerOrderStatsRepository;
 import com.hexarch.demo.domain.ports.CustomerRepository;
 import com.hexarch.demo.domain.ports.OrderRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -11,28 +13,45 @@ import java.util.List;
 public class CreateOrderUseCase {
     private final OrderRepository orderRepository;
     private final CustomerRepository customerRepository;
+    private final CustomerOrderStatsRepository customerOrderStatsRepository;
 
-    public CreateOrderUseCase(OrderRepository orderRepository, CustomerRepository customerRepository) {
+    public CreateOrderUseCase(OrderRepository orderRepository, CustomerRepository customerRepository,
+                              CustomerOrderStatsRepository customerOrderStatsRepository) {
         this.orderRepository = orderRepository;
         this.customerRepository = customerRepository;
+        this.customerOrderStatsRepository = customerOrderStatsRepository;
     }
 
+    @Transactional
     public Order execute(CreateOrderCommand command) {
         // Validate customer exists
         Customer customer = customerRepository.findById(command.customerId())
                 .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + command.customerId()));
 
-        // Create order items
+        // Create and save order
+        Order order = newOrder(command);
+        Order savedOrder = orderRepository.save(order);
+        customerOrderStatsRepository.recordCreated(List.of(savedOrder));
+        return savedOrder;
+    }
+
+    // Missing input is rejected as IllegalArgumentException here, so a NullPointerException further down is a bug
+    static Order newOrder(CreateOrderCommand command) {
+        if (command.items() == null) {
+            throw new IllegalArgumentException("Order items are required");
+        }
+        for (CreateOrderItemCommand item : command.items()) {
+            if (item == null || item.productName() == null || item.currency() == null) {
+                throw new IllegalArgumentException("Order items need a product name and a currency");
+            }
+        }
         List<OrderItem> orderItems = command.items().stream()
                 .map(item -> new OrderItem(
                         item.productName(),
                         Money.of(item.unitPrice(), item.currency()),
                         item.quantity()))
                 .toList();
-
-        // Create and save order
-        Order order = new Order(OrderId.generate(), command.customerId(), orderItems);
-        return orderRepository.save(order);
+        return new Order(OrderId.generate(), command.customerId(), orderItems);
     }
 
     public record CreateOrderCommand(
@@ -0,0 +1,75 @@
+package com.hexarch.demo.application.usecases;
+
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.model.Order;
+import com.hexarch.demo.domain.ports.CustomerOrderStatsRepository;
+import com.hexarch.demo.domain.ports.CustomerRepository;
+import com.hexarch.demo.domain.ports.OrderRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class CreateOrdersBatchUseCase {
+    private final OrderRepository orderRepository;
+    private final CustomerRepository customerRepository;
+    private final CustomerOrderStatsRepository customerOrderStatsRepository;
+
+    public CreateOrdersBatchUseCase(OrderRepository orderRepository, CustomerRepository customerRepository,
+                                    CustomerOrderStatsRepository customerOrderStatsRepository) {
+        this.orderRepository = orderRepository;
+        this.customerRepository = customerRepository;
+        this.customerOrderStatsRepository = customerOrderStatsRepository;
+    }
+
+    @Transactional
+    public List<BatchOrderResult> execute(CreateOrdersBatchCommand command) {
+        List<CreateOrderUseCase.CreateOrderCommand> commands = command.orders();
+
+        // Validate all customers with a single query
+        Set<CustomerId> requestedCustomers = commands.stream()
+                .map(CreateOrderUseCase.CreateOrderCommand::customerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<CustomerId> existingCustomers = customerRepository.findExistingIds(requestedCustomers);
+
+        // Build every order; invalid ones are reported and skipped instead of failing the batch
+        List<BatchOrderResult> results = new ArrayList<>(commands.size());
+        List<Order> orders = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            CreateOrderUseCase.CreateOrderCommand orderCommand = commands.get(i);
+            try {
+                if (orderCommand.customerId() == null) {
+                    throw new IllegalArgumentException("Customer ID is required");
+                }
+                if (!existingCustomers.contains(orderCommand.customerId())) {
+                    throw new IllegalArgumentException("Customer not found: " + orderCommand.customerId());
+                }
+                Order order = CreateOrderUseCase.newOrder(orderCommand);
+                orders.add(order);
+                results.add(new BatchOrderResult(i, order, null));
+            } catch (IllegalArgumentException e) {
+                results.add(new BatchOrderResult(i, null, e.getMessage()));
+            }
+        }
+
+        orderRepository.saveAll(orders);
+        if (!orders.isEmpty()) {
+            customerOrderStatsRepository.recordCreated(orders);
+        }
+        return results;
+    }
+
+    public record CreateOrdersBatchCommand(List<CreateOrderUseCase.CreateOrderCommand> orders) {}
+
+    public record BatchOrderResult(int index, Order order, String error) {
+        public boolean isCreated() {
+            return order != null;
+        }
+    }
+}
\ No newline at end of file
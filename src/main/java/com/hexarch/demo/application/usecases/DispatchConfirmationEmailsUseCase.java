@@ -0,0 +1,53 @@
+package com.hexarch.demo.application.usecases;
+
+import com.hexarch.demo.domain.ports.EmailOutbox;
+import com.hexarch.demo.domain.ports.EmailService;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class DispatchConfirmationEmailsUseCase {
+    private final EmailOutbox emailOutbox;
+    private final EmailService emailService;
+
+    public DispatchConfirmationEmailsUseCase(EmailOutbox emailOutbox, EmailService emailService) {
+        this.emailOutbox = emailOutbox;
+        this.emailService = emailService;
+    }
+
+    public DispatchResult execute(DispatchCommand command) {
+        List<EmailService.OrderConfirmationEmail> batch = emailOutbox.fetchDue(command.batchSize());
+        if (batch.isEmpty()) {
+            return new DispatchResult(0, 0);
+        }
+
+        // An exception from the provider fails the whole batch; everything is retried later
+        Set<String> delivered;
+        try {
+            delivered = new HashSet<>(emailService.sendOrderConfirmationEmails(batch));
+        } catch (RuntimeException e) {
+            delivered = Set.of();
+        }
+
+        Set<String> sent = delivered;
+        List<String> failed = batch.stream()
+                .map(EmailService.OrderConfirmationEmail::orderId)
+                .filter(orderId -> !sent.contains(orderId))
+                .toList();
+
+        if (!sent.isEmpty()) {
+            emailOutbox.markSent(sent);
+        }
+        if (!failed.isEmpty()) {
+            emailOutbox.markFailed(failed);
+        }
+        return new DispatchResult(sent.size(), failed.size());
+    }
+
+    public record DispatchCommand(int batchSize) {}
+
+    public record DispatchResult(int sent, int failed) {}
+}
\ No newline at end of file
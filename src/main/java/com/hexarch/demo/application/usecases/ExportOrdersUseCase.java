@@ -0,0 +1,29 @@
+package com.hexarch.demo.application.usecases;
+
+import com.hexarch.demo.domain.ports.OrderRepository;
+import com.hexarch.demo.domain.ports.OrderRepository.OrderSummary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+@Service
+public class ExportOrdersUseCase {
+    private final OrderRepository orderRepository;
+
+    public ExportOrdersUseCase(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    // The transaction stays open while the sink writes, since rows are read from a live cursor
+    @Transactional(readOnly = true)
+    public void execute(ExportOrdersQuery query, Consumer<OrderSummary> sink) {
+        if (!query.createdFrom().isBefore(query.createdTo())) {
+            throw new IllegalArgumentException("Export range must end after it starts");
+        }
+        orderRepository.streamSummaries(query.createdFrom(), query.createdTo(), sink);
+    }
+
+    public record ExportOrdersQuery(LocalDateTime createdFrom, LocalDateTime createdTo) {}
+}
\ No newline at end of file
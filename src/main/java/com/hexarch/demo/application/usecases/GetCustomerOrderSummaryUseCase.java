@@ -0,0 +1,24 @@
+package com.hexarch.demo.application.usecases;
+
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.ports.CustomerOrderStatsRepository;
+import com.hexarch.demo.domain.ports.CustomerOrderStatsRepository.CustomerOrderStats;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class GetCustomerOrderSummaryUseCase {
+    private final CustomerOrderStatsRepository customerOrderStatsRepository;
+
+    public GetCustomerOrderSummaryUseCase(CustomerOrderStatsRepository customerOrderStatsRepository) {
+        this.customerOrderStatsRepository = customerOrderStatsRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public CustomerOrderStats execute(GetCustomerOrderSummaryQuery query) {
+        return customerOrderStatsRepository.findByCustomerId(query.customerId())
+                .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + query.customerId()));
+    }
+
+    public record GetCustomerOrderSummaryQuery(CustomerId customerId) {}
+}
\ No newline at end of file
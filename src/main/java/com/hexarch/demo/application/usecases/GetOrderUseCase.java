@@ -4,6 +4,7 @@ import com.hexarch.demo.domain.model.Order;
 import com.hexarch.demo.domain.model.OrderId;
 import com.hexarch.demo.domain.ports.OrderRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class GetOrderUseCase {
@@ -13,6 +14,7 @@ public class GetOrderUseCase {
         this.orderRepository = orderRepository;
     }
 
+    @Transactional(readOnly = true)
     public Order execute(GetOrderQuery query) {
         return orderRepository.findById(query.orderId())
                 .orElseThrow(() -> new IllegalArgumentException("Order not found: " + query.orderId()));
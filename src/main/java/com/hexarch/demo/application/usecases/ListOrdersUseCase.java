@@ -0,0 +1,44 @@
+package com.hexarch.demo.application.usecases;
+
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.model.OrderStatus;
+import com.hexarch.demo.domain.ports.OrderRepository;
+import com.hexarch.demo.domain.ports.OrderRepository.OrderCursor;
+import com.hexarch.demo.domain.ports.OrderRepository.OrderSummary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class ListOrdersUseCase {
+    private final OrderRepository orderRepository;
+
+    public ListOrdersUseCase(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public OrderPage execute(ListOrdersQuery query) {
+        if (query.limit() <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+
+        // One extra row tells whether there is a next page without a count query
+        List<OrderSummary> rows = orderRepository.search(new OrderRepository.OrderSearch(
+                query.customerId(), query.status(), query.createdAfter(), query.after(), query.limit() + 1));
+
+        if (rows.size() <= query.limit()) {
+            return new OrderPage(rows, null);
+        }
+        List<OrderSummary> page = rows.subList(0, query.limit());
+        OrderSummary last = page.get(page.size() - 1);
+        return new OrderPage(page, new OrderCursor(last.createdAt(), last.orderId()));
+    }
+
+    public record ListOrdersQuery(CustomerId customerId, OrderStatus status, LocalDateTime createdAfter,
+                                  OrderCursor after, int limit) {}
+
+    public record OrderPage(List<OrderSummary> orders, OrderCursor nextCursor) {}
+}
\ No newline at end of file
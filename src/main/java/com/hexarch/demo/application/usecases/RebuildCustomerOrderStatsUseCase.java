@@ -0,0 +1,26 @@
+package com.hexarch.demo.application.usecases;
+
+import com.hexarch.demo.domain.ports.CustomerOrderStatsRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// The rebuild reads the SQL orders table, which is empty when orders live in memory or in the event store;
+// there it would wipe every customer's stats, so it only exists alongside the JPA order adapter
+@Service
+@Profile("!memory & !event-store")
+public class RebuildCustomerOrderStatsUseCase {
+    private final CustomerOrderStatsRepository customerOrderStatsRepository;
+
+    public RebuildCustomerOrderStatsUseCase(CustomerOrderStatsRepository customerOrderStatsRepository) {
+        this.customerOrderStatsRepository = customerOrderStatsRepository;
+    }
+
+    // Recomputes the whole projection in one transaction, e.g. after a backfill or a schema change
+    @Transactional
+    public RebuildResult execute() {
+        return new RebuildResult(customerOrderStatsRepository.rebuild());
+    }
+
+    public record RebuildResult(int customers) {}
+}
\ No newline at end of file
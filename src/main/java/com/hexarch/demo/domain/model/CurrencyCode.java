@@ -0,0 +1,24 @@
+package com.hexarch.demo.domain.model;
+
+import java.util.Objects;
+
+// Supported ISO 4217 currencies, all with two decimal places
+public enum CurrencyCode {
+    USD,
+    EUR,
+    GBP,
+    CHF,
+    CAD,
+    AUD,
+    MXN,
+    BOB;
+
+    public static CurrencyCode of(String code) {
+        Objects.requireNonNull(code, "Currency cannot be null");
+        try {
+            return valueOf(code);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported currency: " + code);
+        }
+    }
+}
\ No newline at end of file
@@ -11,7 +11,7 @@ public class CustomerId {
     }
 
     public static CustomerId generate() {
-        return new CustomerId(UUID.randomUUID());
+        return new CustomerId(TimeOrderedUuid.next());
     }
 
     public static CustomerId fromString(String value) {
@@ -3,57 +3,109 @@ package com.hexarch.demo.domain.model;
 import java.math.BigDecimal;
 import java.util.Objects;
 
+// Amounts are held as a long count of minor units (cents); BigDecimal is only
+// produced or accepted at the persistence and REST edges
 public class Money {
-    private final BigDecimal amount;
-    private final String currency;
+    private static final int SCALE = 2;
 
-    public Money(BigDecimal amount, String currency) {
-        this.amount = Objects.requireNonNull(amount, "Amount cannot be null");
+    private final long minorUnits;
+    private final CurrencyCode currency;
+
+    private Money(long minorUnits, CurrencyCode currency) {
         this.currency = Objects.requireNonNull(currency, "Currency cannot be null");
-        
-        if (amount.compareTo(BigDecimal.ZERO) < 0) {
+        this.minorUnits = minorUnits;
+
+        if (minorUnits < 0) {
             throw new IllegalArgumentException("Amount cannot be negative");
         }
     }
 
+    public Money(BigDecimal amount, String currency) {
+        this(toMinorUnits(Objects.requireNonNull(amount, "Amount cannot be null")), CurrencyCode.of(currency));
+    }
+
+    public static Money ofMinor(long minorUnits, CurrencyCode currency) {
+        return new Money(minorUnits, currency);
+    }
+
     public static Money of(double amount, String currency) {
         return new Money(BigDecimal.valueOf(amount), currency);
     }
 
     public static Money zero(String currency) {
-        return new Money(BigDecimal.ZERO, currency);
+        return new Money(0L, CurrencyCode.of(currency));
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        if (amount.signum() < 0) {
+            throw new IllegalArgumentException("Amount cannot be negative");
+        }
+        try {
+            return amount.movePointRight(SCALE).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount must fit in a long with at most " + SCALE + " decimal places: " + amount);
+        }
     }
 
     public Money add(Money other) {
-        if (!this.currency.equals(other.currency)) {
+        if (this.currency != other.currency) {
             throw new IllegalArgumentException("Cannot add money with different currencies");
         }
-        return new Money(this.amount.add(other.amount), this.currency);
+        return new Money(addMinor(this.minorUnits, other.minorUnits), this.currency);
+    }
+
+    public Money multiply(int quantity) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("Quantity cannot be negative");
+        }
+        try {
+            return new Money(Math.multiplyExact(this.minorUnits, quantity), this.currency);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount overflows: " + this + " x " + quantity);
+        }
+    }
+
+    // Overflow is invalid input like any other bad amount, so it surfaces as IllegalArgumentException
+    static long addMinor(long minorUnits, long otherMinorUnits) {
+        try {
+            return Math.addExact(minorUnits, otherMinorUnits);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount overflows: "
+                    + BigDecimal.valueOf(minorUnits, SCALE) + " + " + BigDecimal.valueOf(otherMinorUnits, SCALE));
+        }
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
     }
 
     public BigDecimal getAmount() {
-        return amount;
+        return BigDecimal.valueOf(minorUnits, SCALE);
     }
 
-    public String getCurrency() {
+    public CurrencyCode getCurrencyCode() {
         return currency;
     }
 
+    public String getCurrency() {
+        return currency.name();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
-        return Objects.equals(amount, money.amount) && Objects.equals(currency, money.currency);
+        return minorUnits == money.minorUnits && currency == money.currency;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount, currency);
+        return 31 * Long.hashCode(minorUnits) + currency.hashCode();
     }
 
     @Override
     public String toString() {
-        return amount + " " + currency;
+        return getAmount() + " " + currency;
     }
 }
\ No newline at end of file
@@ -10,20 +10,48 @@ public class Order {
     private final OrderId id;
     private final CustomerId customerId;
     private final List<OrderItem> items;
+    private final Money totalAmount;
     private OrderStatus status;
     private final LocalDateTime createdAt;
     private LocalDateTime confirmedAt;
+    private final List<OrderEvent> pendingEvents = new ArrayList<>();
 
     public Order(OrderId id, CustomerId customerId, List<OrderItem> items) {
         this.id = Objects.requireNonNull(id, "Order ID cannot be null");
         this.customerId = Objects.requireNonNull(customerId, "Customer ID cannot be null");
-        this.items = new ArrayList<>(Objects.requireNonNull(items, "Order items cannot be null"));
+        this.items = List.copyOf(Objects.requireNonNull(items, "Order items cannot be null"));
         this.status = OrderStatus.CREATED;
         this.createdAt = LocalDateTime.now();
         
         if (items.isEmpty()) {
             throw new IllegalArgumentException("Order must have at least one item");
         }
+        this.totalAmount = sumTotals(this.items);
+        pendingEvents.add(new OrderEvent.OrderCreated(id, createdAt));
+    }
+
+    private Order(OrderSnapshot snapshot) {
+        this.id = Objects.requireNonNull(snapshot.id(), "Order ID cannot be null");
+        this.customerId = Objects.requireNonNull(snapshot.customerId(), "Customer ID cannot be null");
+        // List.copyOf returns an already-immutable list as is, so restoring does not copy items
+        this.items = List.copyOf(Objects.requireNonNull(snapshot.items(), "Order items cannot be null"));
+        this.status = Objects.requireNonNull(snapshot.status(), "Order status cannot be null");
+        this.createdAt = Objects.requireNonNull(snapshot.createdAt(), "Created at cannot be null");
+        this.confirmedAt = snapshot.confirmedAt();
+
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("Order must have at least one item");
+        }
+        this.totalAmount = sumTotals(this.items);
+    }
+
+    // Rebuilds a stored order as is: no transitions are replayed and no events are recorded
+    public static Order restore(OrderSnapshot snapshot) {
+        return new Order(snapshot);
+    }
+
+    public OrderSnapshot snapshot() {
+        return new OrderSnapshot(id, customerId, List.copyOf(items), status, createdAt, confirmedAt);
     }
 
     public void confirm() {
@@ -32,6 +60,17 @@ public class Order {
         }
         this.status = OrderStatus.CONFIRMED;
         this.confirmedAt = LocalDateTime.now();
+        pendingEvents.add(new OrderEvent.OrderConfirmed(id, confirmedAt));
+    }
+
+    // Hands a confirmation whose payment failed back, so the order can be confirmed again
+    public void revertConfirmation() {
+        if (status != OrderStatus.CONFIRMED) {
+            throw new IllegalStateException("Only confirmed orders can be reverted");
+        }
+        this.status = OrderStatus.CREATED;
+        this.confirmedAt = null;
+        pendingEvents.add(new OrderEvent.OrderConfirmationReverted(id, LocalDateTime.now()));
     }
 
     public void markAsPaid() {
@@ -39,6 +78,7 @@ public class Order {
             throw new IllegalStateException("Only confirmed orders can be marked as paid");
         }
         this.status = OrderStatus.PAID;
+        pendingEvents.add(new OrderEvent.OrderPaid(id, LocalDateTime.now()));
     }
 
     public void cancel() {
@@ -46,12 +86,25 @@ public class Order {
             throw new IllegalStateException("Paid orders cannot be cancelled");
         }
         this.status = OrderStatus.CANCELLED;
+        pendingEvents.add(new OrderEvent.OrderCancelled(id, LocalDateTime.now()));
+    }
+
+    // The item list never changes, so the total is computed once at construction
+    private static Money sumTotals(List<OrderItem> items) {
+        CurrencyCode currency = items.get(0).getTotalPrice().getCurrencyCode();
+        long total = 0;
+        for (OrderItem item : items) {
+            Money itemTotal = item.getTotalPrice();
+            if (itemTotal.getCurrencyCode() != currency) {
+                throw new IllegalArgumentException("Cannot add money with different currencies");
+            }
+            total = Money.addMinor(total, itemTotal.getMinorUnits());
+        }
+        return Money.ofMinor(total, currency);
     }
 
     public Money getTotalAmount() {
-        return items.stream()
-                .map(OrderItem::getTotalPrice)
-                .reduce(Money.zero("USD"), Money::add);
+        return totalAmount;
     }
 
     public boolean isConfirmed() {
@@ -62,6 +115,19 @@ public class Order {
         return status == OrderStatus.PAID;
     }
 
+    // Changes since the order was loaded or last saved
+    public List<OrderEvent> getPendingEvents() {
+        return Collections.unmodifiableList(pendingEvents);
+    }
+
+    public boolean isNew() {
+        return !pendingEvents.isEmpty() && pendingEvents.get(0) instanceof OrderEvent.OrderCreated;
+    }
+
+    public void clearPendingEvents() {
+        pendingEvents.clear();
+    }
+
     public OrderId getId() {
         return id;
     }
@@ -71,7 +137,7 @@ public class Order {
     }
 
     public List<OrderItem> getItems() {
-        return Collections.unmodifiableList(items);
+        return items;
     }
 
     public OrderStatus getStatus() {
@@ -105,7 +171,7 @@ public class Order {
                 "id=" + id +
                 ", customerId=" + customerId +
                 ", status=" + status +
-                ", totalAmount=" + getTotalAmount() +
+                ", totalAmount=" + totalAmount +
                 ", createdAt=" + createdAt +
                 '}';
     }
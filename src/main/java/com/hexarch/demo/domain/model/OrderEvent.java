@@ -0,0 +1,18 @@
+package com.hexarch.demo.domain.model;
+
+import java.time.LocalDateTime;
+
+public sealed interface OrderEvent {
+    OrderId orderId();
+    LocalDateTime occurredAt();
+
+    record OrderCreated(OrderId orderId, LocalDateTime occurredAt) implements OrderEvent {}
+
+    record OrderConfirmed(OrderId orderId, LocalDateTime occurredAt) implements OrderEvent {}
+
+    record OrderConfirmationReverted(OrderId orderId, LocalDateTime occurredAt) implements OrderEvent {}
+
+    record OrderPaid(OrderId orderId, LocalDateTime occurredAt) implements OrderEvent {}
+
+    record OrderCancelled(OrderId orderId, LocalDateTime occurredAt) implements OrderEvent {}
+}
\ No newline at end of file
@@ -11,7 +11,7 @@ public class OrderId {
     }
 
     public static OrderId generate() {
-        return new OrderId(UUID.randomUUID());
+        return new OrderId(TimeOrderedUuid.next());
     }
 
     public static OrderId fromString(String value) {
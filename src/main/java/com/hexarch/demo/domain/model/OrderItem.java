@@ -6,6 +6,7 @@ public class OrderItem {
     private final String productName;
     private final Money unitPrice;
     private final int quantity;
+    private final Money totalPrice;
 
     public OrderItem(String productName, Money unitPrice, int quantity) {
         this.productName = Objects.requireNonNull(productName, "Product name cannot be null");
@@ -19,13 +20,13 @@ public class OrderItem {
         if (quantity <= 0) {
             throw new IllegalArgumentException("Quantity must be positive");
         }
+
+        // Items are immutable, so the line total is computed once
+        this.totalPrice = unitPrice.multiply(quantity);
     }
 
     public Money getTotalPrice() {
-        return new Money(
-            unitPrice.getAmount().multiply(java.math.BigDecimal.valueOf(quantity)),
-            unitPrice.getCurrency()
-        );
+        return totalPrice;
     }
 
     public String getProductName() {
@@ -61,7 +62,7 @@ public class OrderItem {
                 "productName='" + productName + '\'' +
                 ", unitPrice=" + unitPrice +
                 ", quantity=" + quantity +
-                ", totalPrice=" + getTotalPrice() +
+                ", totalPrice=" + totalPrice +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.hexarch.demo.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Persisted state of an order, used to restore it without replaying its state transitions
+public record OrderSnapshot(
+        OrderId id,
+        CustomerId customerId,
+        List<OrderItem> items,
+        OrderStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime confirmedAt
+) {}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.hexarch.demo.domain.ports;
+
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.model.Order;
+import com.hexarch.demo.domain.model.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Per-customer read model kept up to date by the order use cases instead of being computed from orders
+public interface CustomerOrderStatsRepository {
+    void initialize(CustomerId customerId);
+
+    // Counts each new order as CREATED and moves the customer's last order time forward
+    void recordCreated(List<Order> orders);
+
+    // Moves the order from previousStatus to its current status; PAID orders add to the paid total
+    void recordStatusChange(Order order, OrderStatus previousStatus);
+
+    Optional<CustomerOrderStats> findByCustomerId(CustomerId customerId);
+
+    // Recomputes every customer's stats from the stored orders; returns the number of customers
+    int rebuild();
+
+    record CustomerOrderStats(CustomerId customerId, Map<OrderStatus, Long> ordersByStatus,
+                              List<Money> paidTotals, LocalDateTime lastOrderAt) {}
+}
\ No newline at end of file
@@ -2,9 +2,12 @@ package com.hexarch.demo.domain.ports;
 
 import com.hexarch.demo.domain.model.Customer;
 import com.hexarch.demo.domain.model.CustomerId;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CustomerRepository {
     Customer save(Customer customer);
     Optional<Customer> findById(CustomerId customerId);
+    Set<CustomerId> findExistingIds(Collection<CustomerId> customerIds);
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.hexarch.demo.domain.ports;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailOutbox {
+    void enqueue(EmailService.OrderConfirmationEmail email);
+    List<EmailService.OrderConfirmationEmail> fetchDue(int limit);
+    void markSent(Collection<String> orderIds);
+    void markFailed(Collection<String> orderIds);
+}
\ No newline at end of file
@@ -1,5 +1,24 @@
 package com.hexarch.demo.domain.ports;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface EmailService {
     void sendOrderConfirmationEmail(String customerEmail, String orderId, String orderDetails);
+
+    // Returns the order ids whose emails were delivered; anything missing is retried by the caller
+    default List<String> sendOrderConfirmationEmails(List<OrderConfirmationEmail> emails) {
+        List<String> delivered = new ArrayList<>(emails.size());
+        for (OrderConfirmationEmail email : emails) {
+            try {
+                sendOrderConfirmationEmail(email.customerEmail(), email.orderId(), email.orderDetails());
+                delivered.add(email.orderId());
+            } catch (RuntimeException e) {
+                // Leave it out of the delivered list so it is retried
+            }
+        }
+        return delivered;
+    }
+
+    record OrderConfirmationEmail(String customerEmail, String orderId, String orderDetails) {}
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.hexarch.demo.domain.ports;
+
+import java.util.Optional;
+
+// Remembers the outcome of requests sent with an Idempotency-Key so retries can be answered without re-running them
+public interface IdempotencyStore {
+    // Reserves the key for the caller and returns empty; if the key is already taken, returns that entry instead.
+    // requestHash fingerprints the request, so a key reused for a different request can be told apart.
+    Optional<IdempotencyEntry> claim(String key, String requestHash);
+
+    void complete(String key, String requestHash, StoredResponse response);
+
+    // Frees a claimed key whose request did not produce a response worth replaying
+    void release(String key);
+
+    record StoredResponse(int status, String contentType, String location, String body) {}
+
+    // requestHash is null when the entry was claimed concurrently and could not be read back
+    record IdempotencyEntry(String key, String requestHash, StoredResponse response) {
+        public boolean isCompleted() {
+            return response != null;
+        }
+
+        public boolean isForOtherRequest(String otherRequestHash) {
+            return requestHash != null && !requestHash.equals(otherRequestHash);
+        }
+    }
+}
\ No newline at end of file
@@ -1,10 +1,37 @@
 package com.hexarch.demo.domain.ports;
 
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.model.Money;
 import com.hexarch.demo.domain.model.Order;
 import com.hexarch.demo.domain.model.OrderId;
+import com.hexarch.demo.domain.model.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface OrderRepository {
     Order save(Order order);
+    List<Order> saveAll(List<Order> orders);
     Optional<Order> findById(OrderId orderId);
+
+    // Writes the order's status only if the stored status is still expectedStatus; false means another
+    // writer moved the order first and nothing was written
+    boolean compareAndSetStatus(Order order, OrderStatus expectedStatus);
+
+    // Newest first, ordered by (createdAt, orderId); returns at most search.limit() summaries
+    List<OrderSummary> search(OrderSearch search);
+
+    // Feeds every order created in [createdFrom, createdTo) to the consumer, oldest first, without
+    // materializing the result; must run inside a transaction
+    void streamSummaries(LocalDateTime createdFrom, LocalDateTime createdTo, Consumer<OrderSummary> consumer);
+
+    // All filters are optional; after is the position of the last summary of the previous page
+    record OrderSearch(CustomerId customerId, OrderStatus status, LocalDateTime createdAfter,
+                       OrderCursor after, int limit) {}
+
+    record OrderCursor(LocalDateTime createdAt, OrderId orderId) {}
+
+    record OrderSummary(OrderId orderId, CustomerId customerId, OrderStatus status, Money totalAmount,
+                        LocalDateTime createdAt, LocalDateTime confirmedAt) {}
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.hexarch.demo.domain.ports;
+
+// The payment reached the provider but no answer came back (timeout, provider error, abandoned hedge); it may
+// have been charged, so a retry must reuse the same payment reference
+public class PaymentOutcomeUnknownException extends RuntimeException {
+    public PaymentOutcomeUnknownException(String message) {
+        super(message);
+    }
+
+    public PaymentOutcomeUnknownException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
\ No newline at end of file
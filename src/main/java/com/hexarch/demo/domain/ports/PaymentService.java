@@ -2,6 +2,20 @@ package com.hexarch.demo.domain.ports;
 
 import com.hexarch.demo.domain.model.Money;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface PaymentService {
     boolean processPayment(String paymentReference, Money amount);
+
+    // Captures several payments in one provider call; results are in request order
+    default List<Boolean> processPayments(List<PaymentRequest> payments) {
+        List<Boolean> results = new ArrayList<>(payments.size());
+        for (PaymentRequest payment : payments) {
+            results.add(processPayment(payment.paymentReference(), payment.amount()));
+        }
+        return results;
+    }
+
+    record PaymentRequest(String paymentReference, Money amount) {}
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.hexarch.demo.domain.ports;
+
+// The payment was rejected before reaching the provider (overload, open circuit); nothing was charged and the
+// payment may be retried
+public class PaymentUnavailableException extends RuntimeException {
+    public PaymentUnavailableException(String message) {
+        super(message);
+    }
+
+    public PaymentUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.hexarch.demo.infrastructure.adapters.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hexarch.demo.domain.ports.IdempotencyStore;
+import com.hexarch.demo.infrastructure.adapters.persistence.IdempotencyStoreAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// Hot tier in front of the idempotency table: retries of recently completed requests are answered from memory
+@Component
+@Primary
+public class CachingIdempotencyStore implements IdempotencyStore {
+    private final IdempotencyStore delegate;
+    // Only completed entries are cached; claims always go to the table so every node sees them
+    private final Cache<String, IdempotencyEntry> completed;
+
+    public CachingIdempotencyStore(IdempotencyStoreAdapter delegate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${orders.idempotency.cache.maximum-size:10000}") long maximumSize,
+                                   @Value("${orders.idempotency.ttl:24h}") Duration ttl) {
+        this.delegate = delegate;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "idempotency");
+    }
+
+    @Override
+    public Optional<IdempotencyEntry> claim(String key, String requestHash) {
+        IdempotencyEntry cached = completed.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<IdempotencyEntry> existing = delegate.claim(key, requestHash);
+        existing.filter(IdempotencyEntry::isCompleted).ifPresent(entry -> completed.put(key, entry));
+        return existing;
+    }
+
+    @Override
+    public void complete(String key, String requestHash, StoredResponse response) {
+        delegate.complete(key, requestHash, response);
+        completed.put(key, new IdempotencyEntry(key, requestHash, response));
+    }
+
+    @Override
+    public void release(String key) {
+        completed.invalidate(key);
+        delegate.release(key);
+    }
+}
\ No newline at end of file
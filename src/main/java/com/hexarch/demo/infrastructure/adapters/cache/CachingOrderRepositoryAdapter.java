@@ -0,0 +1,133 @@
+package com.hexarch.demo.infrastructure.adapters.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hexarch.demo.domain.model.*;
+import com.hexarch.demo.domain.ports.OrderRepository;
+import com.hexarch.demo.infrastructure.adapters.persistence.OrderRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+@Component
+@Profile("!memory & !event-store")
+@Primary
+@ConditionalOnProperty(name = "orders.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingOrderRepositoryAdapter implements OrderRepository {
+    private final OrderRepository delegate;
+    // Orders are mutable, so the cache keeps an immutable snapshot and restores a fresh Order per hit.
+    // Async so a miss only parks a future in the map; the load itself runs outside the map's bin lock.
+    private final AsyncCache<OrderId, OrderSnapshot> cache;
+    // Set when misses load from a lagging replica: orders written within the replica's lag bound. Their
+    // replica row may predate the write, so it is served but not cached, or it would stay for the whole TTL.
+    private final Cache<OrderId, Boolean> recentWrites;
+
+    public CachingOrderRepositoryAdapter(OrderRepositoryAdapter delegate,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${orders.datasource.replica.enabled:false}") boolean replicaReads,
+                                         @Value("${orders.datasource.replica.max-lag:5s}") Duration replicaMaxLag,
+                                         @Value("${orders.cache.maximum-size:10000}") long maximumSize,
+                                         @Value("${orders.cache.ttl:30s}") Duration ttl) {
+        this.delegate = delegate;
+        this.recentWrites = replicaReads
+                ? Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(replicaMaxLag).build()
+                : null;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        // Publishes cache.gets{result=hit|miss}, cache.evictions and cache.size under cache=orders
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "orders");
+    }
+
+    @Override
+    public Order save(Order order) {
+        invalidate(order.getId());
+        return delegate.save(order);
+    }
+
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        orders.forEach(order -> invalidate(order.getId()));
+        return delegate.saveAll(orders);
+    }
+
+    @Override
+    public boolean compareAndSetStatus(Order order, OrderStatus expectedStatus) {
+        invalidate(order.getId());
+        return delegate.compareAndSetStatus(order, expectedStatus);
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        // Writers read through to the database so they never act on (or publish) uncommitted state
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return delegate.findById(orderId);
+        }
+        // A synchronous loader would hold the bin lock while waiting for a pooled connection, blocking
+        // writers that hold connections and are invalidating keys in the same bin. Load on this thread instead.
+        CompletableFuture<OrderSnapshot> loading = new CompletableFuture<>();
+        CompletableFuture<OrderSnapshot> cached = cache.get(orderId, (id, executor) -> loading);
+        if (cached == loading) {
+            try {
+                loading.complete(delegate.findById(orderId).map(Order::snapshot).orElse(null));
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+            // Checked after the load: a write committing meanwhile is marked before it evicts the key
+            if (recentWrites != null && recentWrites.getIfPresent(orderId) != null) {
+                cache.asMap().remove(orderId, loading);
+            }
+        }
+        return Optional.ofNullable(cached.join()).map(Order::restore);
+    }
+
+    @Override
+    public List<OrderSummary> search(OrderSearch search) {
+        // Pages change with every write, so listings always go to the database
+        return delegate.search(search);
+    }
+
+    @Override
+    public void streamSummaries(LocalDateTime createdFrom, LocalDateTime createdTo, Consumer<OrderSummary> consumer) {
+        delegate.streamSummaries(createdFrom, createdTo, consumer);
+    }
+
+    private void invalidate(OrderId orderId) {
+        markWritten(orderId);
+        cache.synchronous().invalidate(orderId);
+        // Evict again once the writing transaction is over, in case a reader cached the old row meanwhile
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    markWritten(orderId);
+                    cache.synchronous().invalidate(orderId);
+                }
+            });
+        }
+    }
+
+    private void markWritten(OrderId orderId) {
+        if (recentWrites != null) {
+            recentWrites.put(orderId, Boolean.TRUE);
+        }
+    }
+}
\ No newline at end of file
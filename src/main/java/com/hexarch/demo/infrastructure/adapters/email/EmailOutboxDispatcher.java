@@ -0,0 +1,36 @@
+package com.hexarch.demo.infrastructure.adapters.email;
+
+import com.hexarch.demo.application.usecases.DispatchConfirmationEmailsUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "orders.email.outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxDispatcher {
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final DispatchConfirmationEmailsUseCase dispatchConfirmationEmailsUseCase;
+    private final int batchSize;
+
+    public EmailOutboxDispatcher(DispatchConfirmationEmailsUseCase dispatchConfirmationEmailsUseCase,
+                                 @Value("${orders.email.outbox.batch-size:50}") int batchSize) {
+        this.dispatchConfirmationEmailsUseCase = dispatchConfirmationEmailsUseCase;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${orders.email.outbox.poll-interval-ms:500}")
+    public void dispatch() {
+        DispatchConfirmationEmailsUseCase.DispatchCommand command =
+                new DispatchConfirmationEmailsUseCase.DispatchCommand(batchSize);
+
+        // Keep draining while batches come back full, but yield the scheduler thread eventually
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            DispatchConfirmationEmailsUseCase.DispatchResult result = dispatchConfirmationEmailsUseCase.execute(command);
+            if (result.sent() + result.failed() < batchSize) {
+                return;
+            }
+        }
+    }
+}
\ No newline at end of file
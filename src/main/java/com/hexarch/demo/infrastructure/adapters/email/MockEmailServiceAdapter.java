@@ -1,21 +1,38 @@
 package com.hexarch.demo.infrastructure.adapters.email;
 
 import com.hexarch.demo.domain.ports.EmailService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class MockEmailServiceAdapter implements EmailService {
+    private static final Logger log = LoggerFactory.getLogger(MockEmailServiceAdapter.class);
 
     @Override
     public void sendOrderConfirmationEmail(String customerEmail, String orderId, String orderDetails) {
-        // Simulate email sending
-        System.out.println("Sending email to: " + customerEmail);
-        System.out.println("Subject: Order Confirmation - " + orderId);
-        System.out.println("Body:");
-        System.out.println("Dear Customer,");
-        System.out.println("Your order has been confirmed!");
-        System.out.println(orderDetails);
-        System.out.println("Thank you for your business.");
-        System.out.println("---");
+        // Simulate email sending: one event per email, with the body only at TRACE
+        log.atDebug()
+                .addKeyValue("to", customerEmail)
+                .addKeyValue("orderId", orderId)
+                .log("Order confirmation email sent");
+        log.atTrace()
+                .addKeyValue("orderId", orderId)
+                .addKeyValue("body", orderDetails)
+                .log("Order confirmation email body");
+    }
+
+    @Override
+    public List<String> sendOrderConfirmationEmails(List<OrderConfirmationEmail> emails) {
+        // Simulate a single batched submission to the mail provider
+        List<String> orderIds = emails.stream().map(OrderConfirmationEmail::orderId).toList();
+        log.atDebug()
+                .addKeyValue("emails", emails.size())
+                .addKeyValue("orderIds", orderIds)
+                .log("Order confirmation email batch sent");
+
+        return orderIds;
     }
 }
\ No newline at end of file
@@ -0,0 +1,361 @@
+package com.hexarch.demo.infrastructure.adapters.eventstore;
+
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.model.Order;
+import com.hexarch.demo.domain.model.OrderId;
+import com.hexarch.demo.domain.model.OrderSnapshot;
+import com.hexarch.demo.domain.model.OrderStatus;
+import com.hexarch.demo.domain.ports.OrderRepository;
+import com.hexarch.demo.infrastructure.adapters.eventstore.StoredEvent.Cancelled;
+import com.hexarch.demo.infrastructure.adapters.eventstore.StoredEvent.Confirmed;
+import com.hexarch.demo.infrastructure.adapters.eventstore.StoredEvent.Created;
+import com.hexarch.demo.infrastructure.adapters.eventstore.StoredEvent.Discarded;
+import com.hexarch.demo.infrastructure.adapters.eventstore.StoredEvent.Paid;
+import com.hexarch.demo.infrastructure.adapters.eventstore.StoredEvent.Snapshotted;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// Orders as the events that happened to them, appended to a segmented log instead of overwriting a row.
+// An in-memory index keeps, per order, the offsets of its events since its last full-state record, so
+// findById reads and folds only those; listings are answered from the summaries kept next to them.
+//
+// As with the memory profile, writes are visible before their transaction commits. A rollback cannot
+// take an event back, so it appends a compensating record instead, unless the order moved on since.
+@Component
+@Profile("event-store")
+public class EventSourcedOrderRepositoryAdapter implements OrderRepository, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(EventSourcedOrderRepositoryAdapter.class);
+    private static final int STRIPES = 64;
+    private static final Comparator<OrderCursor> BY_CREATED = Comparator.comparing(OrderCursor::createdAt)
+            .thenComparing(cursor -> cursor.orderId().getValue().getMostSignificantBits(), Long::compareUnsigned)
+            .thenComparing(cursor -> cursor.orderId().getValue().getLeastSignificantBits(), Long::compareUnsigned);
+
+    private final Map<OrderId, IndexEntry> index = new ConcurrentHashMap<>();
+    private final NavigableSet<OrderCursor> ordersByCreated = new ConcurrentSkipListSet<>(BY_CREATED);
+    private final Map<CustomerId, NavigableSet<OrderCursor>> ordersByCustomer = new ConcurrentHashMap<>();
+    // A write holds its order's stripe from reading the index entry until the entry reflects the appended
+    // events, so one order's events are in the log in the order they were decided
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private final ReentrantLock snapshotting = new ReentrantLock();
+    private final Path directory;
+    private final SegmentedLog eventLog;
+    private final int snapshotEvery;
+
+    public EventSourcedOrderRepositoryAdapter(
+            @Value("${orders.event-store.directory:data/event-store}") Path directory,
+            @Value("${orders.event-store.segment-bytes:67108864}") long segmentBytes,
+            @Value("${orders.event-store.snapshot-every:2}") int snapshotEvery) throws IOException {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.directory = directory;
+        this.eventLog = new SegmentedLog(directory, segmentBytes);
+        this.snapshotEvery = snapshotEvery;
+        recover();
+    }
+
+    @Override
+    public Order save(Order order) {
+        OrderId orderId = order.getId();
+        if (order.isNew()) {
+            write(orderId, () -> {
+                if (index.containsKey(orderId)) {
+                    throw new IllegalArgumentException("Order already exists: " + orderId);
+                }
+                append(orderId, null, List.of(new Created(order.snapshot())));
+                return true;
+            });
+        } else if (!order.getPendingEvents().isEmpty()) {
+            write(orderId, () -> {
+                IndexEntry current = index.get(orderId);
+                if (current == null) {
+                    throw new IllegalArgumentException("Order not found: " + orderId);
+                }
+                append(orderId, current, pendingEvents(order));
+                return true;
+            });
+        }
+        order.clearPendingEvents();
+        return order;
+    }
+
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        orders.forEach(this::save);
+        return orders;
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        IndexEntry entry = index.get(orderId);
+        return entry != null ? Optional.ofNullable(fold(entry)).map(Order::restore) : Optional.empty();
+    }
+
+    @Override
+    public boolean compareAndSetStatus(Order order, OrderStatus expectedStatus) {
+        OrderId orderId = order.getId();
+        boolean written = write(orderId, () -> {
+            IndexEntry current = index.get(orderId);
+            if (current == null || current.summary().status() != expectedStatus) {
+                return false;
+            }
+            append(orderId, current, pendingEvents(order));
+            return true;
+        });
+        if (written) {
+            order.clearPendingEvents();
+        }
+        return written;
+    }
+
+    @Override
+    public List<OrderSummary> search(OrderSearch search) {
+        NavigableSet<OrderCursor> keys = newestFirst(search.customerId());
+        if (search.after() != null) {
+            keys = keys.tailSet(search.after(), false);
+        }
+        List<OrderSummary> page = new ArrayList<>(search.limit());
+        for (OrderCursor key : keys) {
+            if (search.createdAfter() != null && !key.createdAt().isAfter(search.createdAfter())) {
+                break;
+            }
+            IndexEntry entry = index.get(key.orderId());
+            if (entry == null || (search.status() != null && entry.summary().status() != search.status())) {
+                continue;
+            }
+            page.add(entry.summary());
+            if (page.size() == search.limit()) {
+                break;
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public void streamSummaries(LocalDateTime createdFrom, LocalDateTime createdTo, Consumer<OrderSummary> consumer) {
+        for (OrderCursor key : ordersByCreated.subSet(first(createdFrom), true, first(createdTo), false)) {
+            IndexEntry entry = index.get(key.orderId());
+            if (entry != null) {
+                consumer.accept(entry.summary());
+            }
+        }
+    }
+
+    // Copies the index so the next start scans only the log written after this point. The copy is taken
+    // while writers carry on; entries that already include later events skip them on replay.
+    @Scheduled(fixedDelayString = "${orders.event-store.index-snapshot-interval-ms:60000}",
+            initialDelayString = "${orders.event-store.index-snapshot-interval-ms:60000}")
+    public void snapshotIndex() {
+        snapshotting.lock();
+        try {
+            long coveredOffset = quiescentEnd();
+            IndexSnapshot.write(directory, coveredOffset, index.values());
+            log.atInfo()
+                    .addKeyValue("coveredOffset", coveredOffset)
+                    .addKeyValue("orders", index.size())
+                    .log("Wrote event store index snapshot");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not snapshot the event store index in " + directory, e);
+        } finally {
+            snapshotting.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            snapshotIndex();
+        } finally {
+            eventLog.close();
+        }
+    }
+
+    // Appends the events, plus a Snapshotted record once snapshotEvery events have piled up since the
+    // last full-state record, then points the index at them. Runs under the order's stripe.
+    private void append(OrderId orderId, IndexEntry current, List<StoredEvent> events) {
+        List<StoredEvent> records = new ArrayList<>(events);
+        if (current != null && current.offsets().length - 1 + events.size() >= snapshotEvery) {
+            OrderSnapshot state = fold(current);
+            for (StoredEvent event : events) {
+                state = event.applyTo(state);
+            }
+            records.add(new Snapshotted(state));
+        }
+        long[] offsets = eventLog.append(records.stream().map(StoredEvent::encode).toList());
+        for (int i = 0; i < offsets.length; i++) {
+            apply(offsets[i], records.get(i));
+        }
+        long written = offsets[offsets.length - 1];
+        onRollback(() -> write(orderId, () -> {
+            IndexEntry now = index.get(orderId);
+            if (now == null || now.lastOffset() != written) {
+                return false;
+            }
+            StoredEvent compensation = current == null ? new Discarded(orderId) : new Snapshotted(fold(current));
+            apply(eventLog.append(List.of(StoredEvent.encode(compensation)))[0], compensation);
+            return true;
+        }));
+    }
+
+    private OrderSnapshot fold(IndexEntry entry) {
+        OrderSnapshot state = null;
+        for (long offset : entry.offsets()) {
+            state = StoredEvent.decode(eventLog.read(offset)).applyTo(state);
+        }
+        return state;
+    }
+
+    // Moves the index to reflect one record; records the index already covers are skipped, which makes
+    // replaying the log over a fuzzy index snapshot safe
+    private void apply(long offset, StoredEvent event) {
+        OrderId orderId = event.orderId();
+        IndexEntry current = index.get(orderId);
+        if (current != null && offset <= current.lastOffset()) {
+            return;
+        }
+        switch (event) {
+            case Created(OrderSnapshot order) -> put(orderId, current, new IndexEntry(toSummary(order), new long[]{offset}));
+            case Snapshotted(OrderSnapshot order) -> put(orderId, current, new IndexEntry(toSummary(order), new long[]{offset}));
+            case Confirmed(OrderId id, LocalDateTime confirmedAt) ->
+                    put(orderId, current, current.followedBy(withStatus(current, OrderStatus.CONFIRMED, confirmedAt), offset));
+            case Paid paid -> put(orderId, current, current.followedBy(
+                    withStatus(current, OrderStatus.PAID, current.summary().confirmedAt()), offset));
+            case Cancelled cancelled -> put(orderId, current, current.followedBy(
+                    withStatus(current, OrderStatus.CANCELLED, current.summary().confirmedAt()), offset));
+            case Discarded discarded -> put(orderId, current, null);
+        }
+    }
+
+    private void put(OrderId orderId, IndexEntry previous, IndexEntry next) {
+        if (next != null) {
+            index.put(orderId, next);
+        } else {
+            index.remove(orderId);
+        }
+        // createdAt and customerId never change, so the listing keys only move on insert and remove
+        if (previous == null && next != null) {
+            index(next.summary());
+        } else if (previous != null && next == null) {
+            OrderCursor key = new OrderCursor(previous.summary().createdAt(), orderId);
+            ordersByCreated.remove(key);
+            NavigableSet<OrderCursor> customerKeys = ordersByCustomer.get(previous.summary().customerId());
+            if (customerKeys != null) {
+                customerKeys.remove(key);
+            }
+        }
+    }
+
+    private void index(OrderSummary summary) {
+        OrderCursor key = new OrderCursor(summary.createdAt(), summary.orderId());
+        ordersByCreated.add(key);
+        ordersByCustomer.computeIfAbsent(summary.customerId(), id -> new ConcurrentSkipListSet<>(BY_CREATED)).add(key);
+    }
+
+    private NavigableSet<OrderCursor> newestFirst(CustomerId customerId) {
+        if (customerId == null) {
+            return ordersByCreated.descendingSet();
+        }
+        NavigableSet<OrderCursor> keys = ordersByCustomer.get(customerId);
+        return keys != null ? keys.descendingSet() : new ConcurrentSkipListSet<>(BY_CREATED);
+    }
+
+    private void recover() throws IOException {
+        long coveredOffset = IndexSnapshot.read(directory, entry -> {
+            index.put(entry.summary().orderId(), entry);
+            index(entry.summary());
+        });
+        int snapshotOrders = index.size();
+        long[] replayed = new long[1];
+        eventLog.scan(coveredOffset, (offset, payload) -> {
+            apply(offset, StoredEvent.decode(payload));
+            replayed[0]++;
+        });
+        log.atInfo()
+                .addKeyValue("directory", directory)
+                .addKeyValue("snapshotOrders", snapshotOrders)
+                .addKeyValue("replayedEvents", replayed[0])
+                .addKeyValue("orders", index.size())
+                .log("Recovered event store index");
+    }
+
+    // The log end with no write between appending and indexing; everything before it is in the index
+    private long quiescentEnd() {
+        for (ReentrantLock stripe : stripes) {
+            stripe.lock();
+        }
+        try {
+            return eventLog.end();
+        } finally {
+            for (ReentrantLock stripe : stripes) {
+                stripe.unlock();
+            }
+        }
+    }
+
+    private boolean write(OrderId orderId, BooleanSupplier change) {
+        ReentrantLock stripe = stripes[Math.floorMod(orderId.hashCode(), STRIPES)];
+        stripe.lock();
+        try {
+            return change.getAsBoolean();
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    private static List<StoredEvent> pendingEvents(Order order) {
+        OrderSnapshot state = order.snapshot();
+        return order.getPendingEvents().stream().map(event -> StoredEvent.of(event, state)).toList();
+    }
+
+    private static OrderSummary withStatus(IndexEntry entry, OrderStatus status, LocalDateTime confirmedAt) {
+        OrderSummary summary = entry.summary();
+        return new OrderSummary(summary.orderId(), summary.customerId(), status, summary.totalAmount(),
+                summary.createdAt(), confirmedAt);
+    }
+
+    private static OrderSummary toSummary(OrderSnapshot order) {
+        return new OrderSummary(order.id(), order.customerId(), order.status(),
+                Order.restore(order).getTotalAmount(), order.createdAt(), order.confirmedAt());
+    }
+
+    // Sorts before every order created at that instant
+    private static OrderCursor first(LocalDateTime createdAt) {
+        return new OrderCursor(createdAt, new OrderId(new UUID(0, 0)));
+    }
+
+    private static void onRollback(Runnable undo) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        undo.run();
+                    }
+                }
+            });
+        }
+    }
+}
\ No newline at end of file
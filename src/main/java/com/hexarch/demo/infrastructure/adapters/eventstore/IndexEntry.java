@@ -0,0 +1,20 @@
+package com.hexarch.demo.infrastructure.adapters.eventstore;
+
+import com.hexarch.demo.domain.ports.OrderRepository.OrderSummary;
+
+import java.util.Arrays;
+
+// Where one order's events live: offsets from its latest Created or Snapshotted record on, plus the
+// summary listings need without touching the log
+record IndexEntry(OrderSummary summary, long[] offsets) {
+
+    long lastOffset() {
+        return offsets[offsets.length - 1];
+    }
+
+    IndexEntry followedBy(OrderSummary next, long offset) {
+        long[] extended = Arrays.copyOf(offsets, offsets.length + 1);
+        extended[offsets.length] = offset;
+        return new IndexEntry(next, extended);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.hexarch.demo.infrastructure.adapters.eventstore;
+
+import com.hexarch.demo.domain.model.CurrencyCode;
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.model.OrderId;
+import com.hexarch.demo.domain.model.OrderStatus;
+import com.hexarch.demo.domain.ports.OrderRepository.OrderSummary;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// A copy of the offset index, so a restart only scans the log written after it. The file is named after
+// the log offset it covers: every event before that offset is reflected in it.
+final class IndexSnapshot {
+    private static final int MAGIC = 0x4F494458;
+    private static final String PREFIX = "index-";
+    private static final String SUFFIX = ".dat";
+
+    private IndexSnapshot() {
+    }
+
+    // Written to a temporary file and moved into place, then older snapshots are deleted
+    static void write(Path directory, long coveredOffset, Iterable<IndexEntry> entries) throws IOException {
+        Path target = directory.resolve(PREFIX + "%020d".formatted(coveredOffset) + SUFFIX);
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            out.writeInt(MAGIC);
+            for (IndexEntry entry : entries) {
+                out.writeBoolean(true);
+                writeEntry(out, entry);
+            }
+            out.writeBoolean(false);
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        for (Path file : list(directory)) {
+            Long offset = coveredOffsetOf(file);
+            if (file.getFileName().toString().endsWith(".tmp") || (offset != null && offset < coveredOffset)) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    // Feeds the newest snapshot's entries to the consumer and returns the offset it covers, 0 without one
+    static long read(Path directory, Consumer<IndexEntry> consumer) throws IOException {
+        long newest = -1;
+        for (Path file : list(directory)) {
+            Long offset = coveredOffsetOf(file);
+            if (offset != null && offset > newest) {
+                newest = offset;
+            }
+        }
+        if (newest < 0) {
+            return 0;
+        }
+        Path file = directory.resolve(PREFIX + "%020d".formatted(newest) + SUFFIX);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalStateException("Not an index snapshot: " + file);
+            }
+            while (in.readBoolean()) {
+                consumer.accept(readEntry(in));
+            }
+        }
+        return newest;
+    }
+
+    private static void writeEntry(DataOutputStream out, IndexEntry entry) throws IOException {
+        OrderSummary summary = entry.summary();
+        StoredEvent.writeUuid(out, summary.orderId().getValue());
+        StoredEvent.writeUuid(out, summary.customerId().getValue());
+        out.writeUTF(summary.status().name());
+        out.writeLong(summary.totalAmount().getMinorUnits());
+        out.writeUTF(summary.totalAmount().getCurrency());
+        StoredEvent.writeTime(out, summary.createdAt());
+        StoredEvent.writeTime(out, summary.confirmedAt());
+        out.writeInt(entry.offsets().length);
+        for (long offset : entry.offsets()) {
+            out.writeLong(offset);
+        }
+    }
+
+    private static IndexEntry readEntry(DataInputStream in) throws IOException {
+        OrderSummary summary = new OrderSummary(
+                new OrderId(StoredEvent.readUuid(in)),
+                new CustomerId(StoredEvent.readUuid(in)),
+                OrderStatus.valueOf(in.readUTF()),
+                Money.ofMinor(in.readLong(), CurrencyCode.of(in.readUTF())),
+                StoredEvent.readTime(in),
+                StoredEvent.readTime(in));
+        long[] offsets = new long[in.readInt()];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = in.readLong();
+        }
+        return new IndexEntry(summary, offsets);
+    }
+
+    private static List<Path> list(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+
+    private static Long coveredOffsetOf(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
\ No newline at end of file
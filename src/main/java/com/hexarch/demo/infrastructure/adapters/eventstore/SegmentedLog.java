@@ -0,0 +1,333 @@
+package com.hexarch.demo.infrastructure.adapters.eventstore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+// Append-only log split into segment files named after the offset of their first byte, so an offset
+// finds its segment with one floor lookup. Records are [length][crc32c][payload].
+//
+// Appends are group-committed: callers queue their records and block, and a single writer thread
+// drains whatever has queued up, writes it with one gathering write and makes it durable with one
+// force, so concurrent writers share the cost of an fsync.
+final class SegmentedLog implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(SegmentedLog.class);
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_BATCH = 1024;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final Append CLOSE = new Append(List.of(), new CompletableFuture<>());
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final ConcurrentSkipListMap<Long, FileChannel> segments = new ConcurrentSkipListMap<>();
+    private final BlockingQueue<Append> queue = new LinkedBlockingQueue<>();
+    // Enqueueing and closing take this lock, so once closed is set nothing more can join the queue
+    private final ReentrantLock enqueueing = new ReentrantLock();
+    private final Thread writer;
+    // Only the writer thread moves these once the log is open
+    private FileChannel active;
+    private long activeBase;
+    private volatile long end;
+    private boolean closed;
+
+    SegmentedLog(Path directory, long segmentBytes) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.segmentBytes = segmentBytes;
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Long base = baseOffsetOf(file);
+                if (base != null) {
+                    segments.put(base, FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE));
+                }
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.put(0L, create(0L));
+        }
+        Map.Entry<Long, FileChannel> last = segments.lastEntry();
+        this.activeBase = last.getKey();
+        this.active = last.getValue();
+        this.end = activeBase + truncateTornTail(active);
+        this.writer = Thread.ofPlatform().name("order-event-log-writer").daemon().start(this::writeLoop);
+    }
+
+    // Offset just past the last durable record
+    long end() {
+        return end;
+    }
+
+    // Blocks until the records are durable and returns their offsets, in order. The records of one call
+    // end up next to each other in the same segment.
+    long[] append(List<byte[]> payloads) {
+        Append append = new Append(payloads, new CompletableFuture<>());
+        enqueueing.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Event log is closed");
+            }
+            queue.add(append);
+        } finally {
+            enqueueing.unlock();
+        }
+        try {
+            return append.offsets().join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    byte[] read(long offset) {
+        Map.Entry<Long, FileChannel> segment = segments.floorEntry(offset);
+        if (segment == null || offset >= end) {
+            throw new IllegalArgumentException("No record at offset " + offset);
+        }
+        try {
+            byte[] payload = readRecord(segment.getValue(), offset - segment.getKey());
+            if (payload == null) {
+                throw new IllegalStateException("Corrupt record at offset " + offset);
+            }
+            return payload;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read offset " + offset, e);
+        }
+    }
+
+    // Feeds every durable record at or after from to the consumer, oldest first
+    void scan(long from, RecordConsumer consumer) throws IOException {
+        long limit = end;
+        Long first = segments.floorKey(from);
+        for (Map.Entry<Long, FileChannel> segment : segments.tailMap(first != null ? first : from).entrySet()) {
+            long base = segment.getKey();
+            FileChannel channel = segment.getValue();
+            long position = Math.max(from, base) - base;
+            long size = Math.min(channel.size(), limit - base);
+            while (position < size) {
+                byte[] payload = readRecord(channel, position);
+                if (payload == null) {
+                    throw new IllegalStateException("Corrupt record at offset " + (base + position));
+                }
+                consumer.accept(base + position, payload);
+                position += HEADER_BYTES + payload.length;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        enqueueing.lock();
+        try {
+            // The writer may already have closed the log on its way out, after an interrupt
+            if (!closed) {
+                closed = true;
+                queue.add(CLOSE);
+            }
+        } finally {
+            enqueueing.unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!active.isOpen()) {
+            return;
+        }
+        active.force(false);
+        for (FileChannel channel : segments.values()) {
+            channel.close();
+        }
+    }
+
+    private void writeLoop() {
+        List<Append> batch = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                failQueued();
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+            boolean closing = batch.remove(CLOSE);
+            if (!batch.isEmpty()) {
+                commit(batch);
+            }
+            batch.clear();
+            if (closing) {
+                failQueued();
+                return;
+            }
+        }
+    }
+
+    // The writer is exiting: closes the log to new appends and fails the queued ones rather than leaving
+    // their callers blocked
+    private void failQueued() {
+        List<Append> stranded = new ArrayList<>();
+        enqueueing.lock();
+        try {
+            closed = true;
+            queue.drainTo(stranded);
+        } finally {
+            enqueueing.unlock();
+        }
+        IllegalStateException failure = new IllegalStateException("Event log is closed");
+        stranded.forEach(append -> append.offsets().completeExceptionally(failure));
+    }
+
+    private void commit(List<Append> batch) {
+        try {
+            if (end - activeBase >= segmentBytes) {
+                roll();
+            }
+            long position = end;
+            List<ByteBuffer> buffers = new ArrayList<>();
+            List<long[]> offsets = new ArrayList<>(batch.size());
+            for (Append append : batch) {
+                long[] appendOffsets = new long[append.payloads().size()];
+                for (int i = 0; i < appendOffsets.length; i++) {
+                    byte[] payload = append.payloads().get(i);
+                    appendOffsets[i] = position;
+                    buffers.add(frame(payload));
+                    position += HEADER_BYTES + payload.length;
+                }
+                offsets.add(appendOffsets);
+            }
+            ByteBuffer[] records = buffers.toArray(ByteBuffer[]::new);
+            active.position(end - activeBase);
+            while (records.length > 0 && records[records.length - 1].hasRemaining()) {
+                active.write(records);
+            }
+            active.force(false);
+            end = position;
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).offsets().complete(offsets.get(i));
+            }
+        } catch (IOException e) {
+            log.atError()
+                    .addKeyValue("segment", segmentFile(activeBase))
+                    .addKeyValue("appends", batch.size())
+                    .setCause(e)
+                    .log("Event log group commit failed");
+            UncheckedIOException failure = new UncheckedIOException("Could not append to the event log", e);
+            batch.forEach(append -> append.offsets().completeExceptionally(failure));
+            try {
+                // Drop whatever part of the batch reached the file, so the next commit starts clean
+                active.truncate(end - activeBase);
+            } catch (IOException ignored) {
+                // The next commit's write position is end either way; replay cuts a torn tail
+            }
+        }
+    }
+
+    private void roll() throws IOException {
+        active.force(false);
+        FileChannel next = create(end);
+        segments.put(end, next);
+        active = next;
+        activeBase = end;
+    }
+
+    private FileChannel create(long base) throws IOException {
+        return FileChannel.open(segmentFile(base),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private Path segmentFile(long base) {
+        return directory.resolve(SEGMENT_PREFIX + "%020d".formatted(base) + SEGMENT_SUFFIX);
+    }
+
+    // A crash can only tear the tail of the segment being written; cuts it at the first bad record
+    private long truncateTornTail(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        byte[] payload;
+        while (position < size && (payload = readRecord(channel, position)) != null) {
+            position += HEADER_BYTES + payload.length;
+        }
+        if (position < size) {
+            log.atWarn()
+                    .addKeyValue("segment", segmentFile(activeBase))
+                    .addKeyValue("discardedBytes", size - position)
+                    .log("Truncating torn event log tail");
+            channel.truncate(position);
+            channel.force(false);
+        }
+        return position;
+    }
+
+    // The payload of the record at position, or null if it is short or fails its checksum
+    private static byte[] readRecord(FileChannel channel, long position) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        if (!readFully(channel, header, position)) {
+            return null;
+        }
+        int length = header.getInt(0);
+        if (length < 0 || channel.size() - position - HEADER_BYTES < length) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        if (!readFully(channel, ByteBuffer.wrap(payload), position + HEADER_BYTES)) {
+            return null;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue() == header.getInt(4) ? payload : null;
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ByteBuffer frame(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return ByteBuffer.allocate(HEADER_BYTES + payload.length)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(payload)
+                .flip();
+    }
+
+    private static Long baseOffsetOf(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    interface RecordConsumer {
+        void accept(long offset, byte[] payload);
+    }
+
+    private record Append(List<byte[]> payloads, CompletableFuture<long[]> offsets) {}
+}
\ No newline at end of file
@@ -0,0 +1,190 @@
+package com.hexarch.demo.infrastructure.adapters.eventstore;
+
+import com.hexarch.demo.domain.model.CurrencyCode;
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.model.OrderEvent;
+import com.hexarch.demo.domain.model.OrderId;
+import com.hexarch.demo.domain.model.OrderItem;
+import com.hexarch.demo.domain.model.OrderSnapshot;
+import com.hexarch.demo.domain.model.OrderStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// What the log stores per order. Created and Snapshotted carry the full state and start a fold; the
+// transitions carry only what they change. Snapshotted and Discarded compensate rolled-back changes.
+sealed interface StoredEvent {
+    OrderId orderId();
+
+    record Created(OrderSnapshot order) implements StoredEvent {
+        public OrderId orderId() {
+            return order.id();
+        }
+    }
+
+    record Confirmed(OrderId orderId, LocalDateTime confirmedAt) implements StoredEvent {}
+
+    record Paid(OrderId orderId, LocalDateTime paidAt) implements StoredEvent {}
+
+    record Cancelled(OrderId orderId, LocalDateTime cancelledAt) implements StoredEvent {}
+
+    record Snapshotted(OrderSnapshot order) implements StoredEvent {
+        public OrderId orderId() {
+            return order.id();
+        }
+    }
+
+    record Discarded(OrderId orderId) implements StoredEvent {}
+
+    // Created needs the items and customer, which the domain event does not carry. A reverted confirmation
+    // is stored as the full state it returns to, like a rollback compensation.
+    static StoredEvent of(OrderEvent event, OrderSnapshot state) {
+        return switch (event) {
+            case OrderEvent.OrderCreated created -> new Created(state);
+            case OrderEvent.OrderConfirmed confirmed -> new Confirmed(confirmed.orderId(), confirmed.occurredAt());
+            case OrderEvent.OrderConfirmationReverted reverted -> new Snapshotted(state);
+            case OrderEvent.OrderPaid paid -> new Paid(paid.orderId(), paid.occurredAt());
+            case OrderEvent.OrderCancelled cancelled -> new Cancelled(cancelled.orderId(), cancelled.occurredAt());
+        };
+    }
+
+    // Folds this event onto the state so far; Created and Snapshotted ignore it, Discarded ends the order
+    default OrderSnapshot applyTo(OrderSnapshot state) {
+        return switch (this) {
+            case Created(OrderSnapshot order) -> order;
+            case Snapshotted(OrderSnapshot order) -> order;
+            case Discarded discarded -> null;
+            case Confirmed(OrderId orderId, LocalDateTime confirmedAt) ->
+                    withStatus(state, OrderStatus.CONFIRMED, confirmedAt);
+            case Paid paid -> withStatus(state, OrderStatus.PAID, state.confirmedAt());
+            case Cancelled cancelled -> withStatus(state, OrderStatus.CANCELLED, state.confirmedAt());
+        };
+    }
+
+    private static OrderSnapshot withStatus(OrderSnapshot state, OrderStatus status, LocalDateTime confirmedAt) {
+        if (state == null) {
+            throw new IllegalStateException("Order event without a preceding Created or Snapshotted event");
+        }
+        return new OrderSnapshot(state.id(), state.customerId(), state.items(), status, state.createdAt(), confirmedAt);
+    }
+
+    static byte[] encode(StoredEvent event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            switch (event) {
+                case Created(OrderSnapshot order) -> {
+                    out.writeByte(1);
+                    writeSnapshot(out, order);
+                }
+                case Confirmed(OrderId orderId, LocalDateTime confirmedAt) -> {
+                    out.writeByte(2);
+                    writeUuid(out, orderId.getValue());
+                    writeTime(out, confirmedAt);
+                }
+                case Paid(OrderId orderId, LocalDateTime paidAt) -> {
+                    out.writeByte(3);
+                    writeUuid(out, orderId.getValue());
+                    writeTime(out, paidAt);
+                }
+                case Cancelled(OrderId orderId, LocalDateTime cancelledAt) -> {
+                    out.writeByte(4);
+                    writeUuid(out, orderId.getValue());
+                    writeTime(out, cancelledAt);
+                }
+                case Snapshotted(OrderSnapshot order) -> {
+                    out.writeByte(5);
+                    writeSnapshot(out, order);
+                }
+                case Discarded(OrderId orderId) -> {
+                    out.writeByte(6);
+                    writeUuid(out, orderId.getValue());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static StoredEvent decode(byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            byte type = in.readByte();
+            return switch (type) {
+                case 1 -> new Created(readSnapshot(in));
+                case 2 -> new Confirmed(new OrderId(readUuid(in)), readTime(in));
+                case 3 -> new Paid(new OrderId(readUuid(in)), readTime(in));
+                case 4 -> new Cancelled(new OrderId(readUuid(in)), readTime(in));
+                case 5 -> new Snapshotted(readSnapshot(in));
+                case 6 -> new Discarded(new OrderId(readUuid(in)));
+                default -> throw new IllegalStateException("Unknown event type: " + type);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeSnapshot(DataOutputStream out, OrderSnapshot order) throws IOException {
+        writeUuid(out, order.id().getValue());
+        writeUuid(out, order.customerId().getValue());
+        out.writeUTF(order.status().name());
+        writeTime(out, order.createdAt());
+        writeTime(out, order.confirmedAt());
+        out.writeInt(order.items().size());
+        for (OrderItem item : order.items()) {
+            out.writeUTF(item.getProductName());
+            out.writeLong(item.getUnitPrice().getMinorUnits());
+            out.writeUTF(item.getUnitPrice().getCurrency());
+            out.writeInt(item.getQuantity());
+        }
+    }
+
+    private static OrderSnapshot readSnapshot(DataInputStream in) throws IOException {
+        OrderId id = new OrderId(readUuid(in));
+        CustomerId customerId = new CustomerId(readUuid(in));
+        OrderStatus status = OrderStatus.valueOf(in.readUTF());
+        LocalDateTime createdAt = readTime(in);
+        LocalDateTime confirmedAt = readTime(in);
+        int itemCount = in.readInt();
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            String productName = in.readUTF();
+            Money unitPrice = Money.ofMinor(in.readLong(), CurrencyCode.of(in.readUTF()));
+            items.add(new OrderItem(productName, unitPrice, in.readInt()));
+        }
+        return new OrderSnapshot(id, customerId, List.copyOf(items), status, createdAt, confirmedAt);
+    }
+
+    static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        out.writeBoolean(time != null);
+        if (time != null) {
+            out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(time.getNano());
+        }
+    }
+
+    static LocalDateTime readTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+package com.hexarch.demo.infrastructure.adapters.memory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+// Append-only log of store changes, one file per generation. Each record is [length][crc32c][payload].
+// A crash can only tear the tail of the file being written, so replay stops at the first short or
+// corrupt record and cuts the file there.
+final class ChangeLog implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ChangeLog.class);
+    private static final int HEADER_BYTES = 8;
+
+    private final Path directory;
+    // Forces every append to disk; otherwise appends survive a process crash but not a power loss
+    private final boolean sync;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private FileChannel channel;
+    private long generation;
+
+    ChangeLog(Path directory, long generation, boolean sync) throws IOException {
+        this.directory = directory;
+        this.sync = sync;
+        open(generation);
+    }
+
+    static Path file(Path directory, long generation) {
+        return directory.resolve("changes-%020d.log".formatted(generation));
+    }
+
+    void append(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payload.length)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(payload)
+                .flip();
+        appendLock.lock();
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            if (sync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to " + file(directory, generation), e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // Closes the current file and starts the next generation; the caller keeps appends out meanwhile
+    long rotate() throws IOException {
+        appendLock.lock();
+        try {
+            channel.force(false);
+            channel.close();
+            open(generation + 1);
+            return generation;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    static void replay(Path file, Consumer<byte[]> consumer) throws IOException {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = in.size();
+            long position = 0;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (position < size) {
+                header.clear();
+                if (!readFully(in, header, position)) {
+                    break;
+                }
+                int length = header.getInt(0);
+                int checksum = header.getInt(4);
+                if (length < 0 || size - position - HEADER_BYTES < length) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                if (!readFully(in, ByteBuffer.wrap(payload), position + HEADER_BYTES)) {
+                    break;
+                }
+                CRC32C crc = new CRC32C();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                consumer.accept(payload);
+                position += HEADER_BYTES + length;
+            }
+            if (position < size) {
+                log.atWarn()
+                        .addKeyValue("file", file)
+                        .addKeyValue("discardedBytes", size - position)
+                        .log("Truncating torn change log tail");
+                in.truncate(position);
+            }
+        }
+    }
+
+    private static boolean readFully(FileChannel in, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer, position + buffer.position()) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void deleteBefore(long generation) throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Long fileGeneration = generationOf(file, "changes-", ".log");
+                if (fileGeneration != null && fileGeneration < generation) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    // The generation in a file name such as changes-00000000000000000042.log, or null for other files
+    static Long generationOf(Path file, String prefix, String suffix) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(prefix) || !name.endsWith(suffix)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            channel.force(false);
+            channel.close();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void open(long generation) throws IOException {
+        this.channel = FileChannel.open(file(directory, generation),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.generation = generation;
+    }
+}
\ No newline at end of file
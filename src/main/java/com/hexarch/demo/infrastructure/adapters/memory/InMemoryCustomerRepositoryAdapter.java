@@ -0,0 +1,58 @@
+package com.hexarch.demo.infrastructure.adapters.memory;
+
+import com.hexarch.demo.domain.model.Customer;
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.ports.CustomerRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@Profile("memory")
+public class InMemoryCustomerRepositoryAdapter implements CustomerRepository {
+    private final InMemoryStore store;
+
+    public InMemoryCustomerRepositoryAdapter(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        CustomerId customerId = customer.getId();
+        while (true) {
+            Customer current = store.customer(customerId);
+            if (store.replaceCustomer(customerId, current, customer)) {
+                // Undone on rollback unless something replaced it since, as in InMemoryOrderRepositoryAdapter
+                if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            if (status == STATUS_ROLLED_BACK) {
+                                store.replaceCustomer(customerId, customer, current);
+                            }
+                        }
+                    });
+                }
+                return customer;
+            }
+        }
+    }
+
+    @Override
+    public Optional<Customer> findById(CustomerId customerId) {
+        return Optional.ofNullable(store.customer(customerId));
+    }
+
+    @Override
+    public Set<CustomerId> findExistingIds(Collection<CustomerId> customerIds) {
+        return customerIds.stream()
+                .filter(customerId -> store.customer(customerId) != null)
+                .collect(Collectors.toSet());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.hexarch.demo.infrastructure.adapters.memory;
+
+import com.hexarch.demo.domain.model.Order;
+import com.hexarch.demo.domain.model.OrderId;
+import com.hexarch.demo.domain.model.OrderSnapshot;
+import com.hexarch.demo.domain.model.OrderStatus;
+import com.hexarch.demo.domain.ports.OrderRepository;
+import com.hexarch.demo.infrastructure.adapters.memory.InMemoryStore.OrderKey;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// Writes apply immediately, so other requests can see an order before its transaction commits; a
+// rollback undoes the write as long as nothing has replaced it since
+@Component
+@Profile("memory")
+public class InMemoryOrderRepositoryAdapter implements OrderRepository {
+    private final InMemoryStore store;
+
+    public InMemoryOrderRepositoryAdapter(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Order save(Order order) {
+        OrderId orderId = order.getId();
+        if (order.isNew()) {
+            OrderSnapshot created = order.snapshot();
+            if (!store.replaceOrder(orderId, null, created)) {
+                throw new IllegalArgumentException("Order already exists: " + orderId);
+            }
+            onRollback(() -> store.replaceOrder(orderId, created, null));
+        } else if (!order.getPendingEvents().isEmpty()) {
+            while (true) {
+                OrderSnapshot current = store.order(orderId);
+                if (current == null) {
+                    throw new IllegalArgumentException("Order not found: " + orderId);
+                }
+                OrderSnapshot updated = withLifecycle(current, order);
+                if (store.replaceOrder(orderId, current, updated)) {
+                    onRollback(() -> store.replaceOrder(orderId, updated, current));
+                    break;
+                }
+            }
+        }
+        order.clearPendingEvents();
+        return order;
+    }
+
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        orders.forEach(this::save);
+        return orders;
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        return Optional.ofNullable(store.order(orderId)).map(Order::restore);
+    }
+
+    @Override
+    public boolean compareAndSetStatus(Order order, OrderStatus expectedStatus) {
+        OrderId orderId = order.getId();
+        while (true) {
+            OrderSnapshot current = store.order(orderId);
+            if (current == null || current.status() != expectedStatus) {
+                return false;
+            }
+            OrderSnapshot updated = withLifecycle(current, order);
+            if (store.replaceOrder(orderId, current, updated)) {
+                onRollback(() -> store.replaceOrder(orderId, updated, current));
+                order.clearPendingEvents();
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public List<OrderSummary> search(OrderSearch search) {
+        NavigableSet<OrderKey> keys = store.ordersNewestFirst(search.customerId());
+        if (search.after() != null) {
+            keys = keys.tailSet(new OrderKey(search.after().createdAt(), search.after().orderId()), false);
+        }
+        List<OrderSummary> page = new ArrayList<>(search.limit());
+        for (OrderKey key : keys) {
+            if (search.createdAfter() != null && !key.createdAt().isAfter(search.createdAfter())) {
+                break;
+            }
+            OrderSnapshot order = store.order(key.orderId());
+            if (order == null || (search.status() != null && order.status() != search.status())) {
+                continue;
+            }
+            page.add(toSummary(order));
+            if (page.size() == search.limit()) {
+                break;
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public void streamSummaries(LocalDateTime createdFrom, LocalDateTime createdTo, Consumer<OrderSummary> consumer) {
+        for (OrderKey key : store.ordersCreatedBetween(createdFrom, createdTo)) {
+            OrderSnapshot order = store.order(key.orderId());
+            if (order != null) {
+                consumer.accept(toSummary(order));
+            }
+        }
+    }
+
+    // Like the JPA adapter, only the lifecycle columns are written back
+    private static OrderSnapshot withLifecycle(OrderSnapshot current, Order order) {
+        return new OrderSnapshot(current.id(), current.customerId(), current.items(),
+                order.getStatus(), current.createdAt(), order.getConfirmedAt());
+    }
+
+    private static OrderSummary toSummary(OrderSnapshot order) {
+        return new OrderSummary(order.id(), order.customerId(), order.status(),
+                Order.restore(order).getTotalAmount(), order.createdAt(), order.confirmedAt());
+    }
+
+    private static void onRollback(Runnable undo) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        undo.run();
+                    }
+                }
+            });
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,297 @@
+package com.hexarch.demo.infrastructure.adapters.memory;
+
+import com.hexarch.demo.domain.model.Customer;
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.model.OrderId;
+import com.hexarch.demo.domain.model.OrderSnapshot;
+import com.hexarch.demo.infrastructure.adapters.memory.StoreRecords.Change;
+import com.hexarch.demo.infrastructure.adapters.memory.StoreRecords.CustomerPut;
+import com.hexarch.demo.infrastructure.adapters.memory.StoreRecords.CustomerRemoved;
+import com.hexarch.demo.infrastructure.adapters.memory.StoreRecords.OrderPut;
+import com.hexarch.demo.infrastructure.adapters.memory.StoreRecords.OrderRemoved;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+// Orders and customers held in concurrent maps, made durable by an append-only change log and a periodic
+// memory-mapped snapshot. On start the newest snapshot is loaded and the logs written since are replayed.
+@Component
+@Profile("memory")
+public class InMemoryStore implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(InMemoryStore.class);
+    private static final int STRIPES = 64;
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".dat";
+    private static final String LOG_PREFIX = "changes-";
+    private static final String LOG_SUFFIX = ".log";
+
+    private final Map<OrderId, OrderSnapshot> orders = new ConcurrentHashMap<>();
+    // (createdAt, orderId) keys for listings and exports, globally and per customer
+    private final NavigableSet<OrderKey> ordersByCreated = new ConcurrentSkipListSet<>();
+    private final Map<CustomerId, NavigableSet<OrderKey>> ordersByCustomer = new ConcurrentHashMap<>();
+    private final Map<CustomerId, Customer> customers = new ConcurrentHashMap<>();
+    private final Map<String, CustomerId> customerIdsByEmail = new ConcurrentHashMap<>();
+
+    // A write to one key holds that key's stripe while it appends and applies, so the log has the
+    // key's changes in the order they were applied. Writes to keys on other stripes run in parallel.
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    // Writers share the read side; a log rotation takes the write side so no change straddles two files
+    private final ReentrantReadWriteLock rotation = new ReentrantReadWriteLock();
+    private final ReentrantLock snapshotting = new ReentrantLock();
+    private final Path directory;
+    private final ChangeLog changeLog;
+
+    public InMemoryStore(@Value("${orders.memory.directory:data/memory-store}") Path directory,
+                         @Value("${orders.memory.log.sync:false}") boolean syncEveryChange) throws IOException {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.directory = Files.createDirectories(directory);
+        this.changeLog = new ChangeLog(directory, recover(), syncEveryChange);
+    }
+
+    OrderSnapshot order(OrderId orderId) {
+        return orders.get(orderId);
+    }
+
+    Customer customer(CustomerId customerId) {
+        return customers.get(customerId);
+    }
+
+    // Newest first, optionally limited to one customer; a weakly consistent live view
+    NavigableSet<OrderKey> ordersNewestFirst(CustomerId customerId) {
+        if (customerId == null) {
+            return ordersByCreated.descendingSet();
+        }
+        NavigableSet<OrderKey> keys = ordersByCustomer.get(customerId);
+        return keys != null ? keys.descendingSet() : new ConcurrentSkipListSet<>();
+    }
+
+    // Oldest first, created in [from, to)
+    NavigableSet<OrderKey> ordersCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return ordersByCreated.subSet(OrderKey.first(from), true, OrderKey.first(to), false);
+    }
+
+    // Replaces the stored order if it is still expected (null: absent) and logs the change; next null removes it
+    boolean replaceOrder(OrderId orderId, OrderSnapshot expected, OrderSnapshot next) {
+        return write(orderId, () -> {
+            if (orders.get(orderId) != expected) {
+                return false;
+            }
+            changeLog.append(StoreRecords.encode(next != null ? new OrderPut(next) : new OrderRemoved(orderId)));
+            applyOrder(orderId, next);
+            return true;
+        });
+    }
+
+    // Same contract as replaceOrder; a customer may not take an email another customer already has
+    boolean replaceCustomer(CustomerId customerId, Customer expected, Customer next) {
+        return write(customerId, () -> {
+            if (customers.get(customerId) != expected) {
+                return false;
+            }
+            if (next != null) {
+                CustomerId owner = customerIdsByEmail.putIfAbsent(next.getEmail(), customerId);
+                if (owner != null && !owner.equals(customerId)) {
+                    throw new IllegalArgumentException("Email already in use: " + next.getEmail());
+                }
+            }
+            changeLog.append(StoreRecords.encode(
+                    next != null ? new CustomerPut(next) : new CustomerRemoved(customerId)));
+            applyCustomer(customerId, next);
+            return true;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${orders.memory.snapshot-interval-ms:60000}",
+            initialDelayString = "${orders.memory.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        snapshotting.lock();
+        try {
+            long generation;
+            rotation.writeLock().lock();
+            try {
+                generation = changeLog.rotate();
+            } finally {
+                rotation.writeLock().unlock();
+            }
+            // Written while writers carry on, so some entries already reflect changes in the new log.
+            // Replaying those full-state records on recovery lands on the same state again.
+            long bytes = MappedSnapshot.write(directory.resolve(snapshotName(generation)), snapshotRecords());
+            changeLog.deleteBefore(generation);
+            deleteSnapshotsBefore(generation);
+            log.atInfo()
+                    .addKeyValue("generation", generation)
+                    .addKeyValue("orders", orders.size())
+                    .addKeyValue("customers", customers.size())
+                    .addKeyValue("bytes", bytes)
+                    .log("Wrote store snapshot");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not snapshot the store in " + directory, e);
+        } finally {
+            snapshotting.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // A final snapshot keeps the next start from replaying a long log
+        try {
+            snapshot();
+        } finally {
+            changeLog.close();
+        }
+    }
+
+    private boolean write(Object key, BooleanSupplier change) {
+        ReentrantLock stripe = stripes[Math.floorMod(key.hashCode(), STRIPES)];
+        rotation.readLock().lock();
+        stripe.lock();
+        try {
+            return change.getAsBoolean();
+        } finally {
+            stripe.unlock();
+            rotation.readLock().unlock();
+        }
+    }
+
+    private void applyOrder(OrderId orderId, OrderSnapshot next) {
+        OrderSnapshot previous = next != null ? orders.put(orderId, next) : orders.remove(orderId);
+        // createdAt and customerId never change, so the index keys only move on insert and remove
+        if (previous == null && next != null) {
+            OrderKey key = new OrderKey(next.createdAt(), orderId);
+            ordersByCreated.add(key);
+            ordersByCustomer.computeIfAbsent(next.customerId(), id -> new ConcurrentSkipListSet<>()).add(key);
+        } else if (previous != null && next == null) {
+            OrderKey key = new OrderKey(previous.createdAt(), orderId);
+            ordersByCreated.remove(key);
+            NavigableSet<OrderKey> customerKeys = ordersByCustomer.get(previous.customerId());
+            if (customerKeys != null) {
+                customerKeys.remove(key);
+            }
+        }
+    }
+
+    private void applyCustomer(CustomerId customerId, Customer next) {
+        Customer previous = next != null ? customers.put(customerId, next) : customers.remove(customerId);
+        if (previous != null && (next == null || !previous.getEmail().equals(next.getEmail()))) {
+            customerIdsByEmail.remove(previous.getEmail(), customerId);
+        }
+        if (next != null) {
+            customerIdsByEmail.put(next.getEmail(), customerId);
+        }
+    }
+
+    private void applyRecovered(byte[] record) {
+        Change change = StoreRecords.decode(record);
+        switch (change) {
+            case OrderPut(OrderSnapshot order) -> applyOrder(order.id(), order);
+            case OrderRemoved(OrderId orderId) -> applyOrder(orderId, null);
+            case CustomerPut(Customer customer) -> applyCustomer(customer.getId(), customer);
+            case CustomerRemoved(CustomerId customerId) -> applyCustomer(customerId, null);
+        }
+    }
+
+    // Loads the newest snapshot, replays the logs from its generation on and returns the generation to
+    // write next; the log that was live at the crash is never appended to again
+    private long recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.toList();
+        }
+        for (Path file : files) {
+            if (file.getFileName().toString().endsWith(".tmp")) {
+                Files.delete(file);
+            }
+        }
+        long snapshotGeneration = generations(files, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX).max().orElse(0);
+        if (snapshotGeneration > 0) {
+            MappedSnapshot.read(directory.resolve(snapshotName(snapshotGeneration)), this::applyRecovered);
+        }
+        long[] logGenerations = generations(files, LOG_PREFIX, LOG_SUFFIX)
+                .filter(generation -> generation >= snapshotGeneration)
+                .sorted()
+                .toArray();
+        for (long generation : logGenerations) {
+            ChangeLog.replay(ChangeLog.file(directory, generation), this::applyRecovered);
+        }
+        long lastGeneration = Math.max(snapshotGeneration,
+                logGenerations.length > 0 ? logGenerations[logGenerations.length - 1] : 0);
+        log.atInfo()
+                .addKeyValue("directory", directory)
+                .addKeyValue("snapshotGeneration", snapshotGeneration)
+                .addKeyValue("replayedLogs", logGenerations.length)
+                .addKeyValue("orders", orders.size())
+                .addKeyValue("customers", customers.size())
+                .log("Recovered in-memory store");
+        return lastGeneration + 1;
+    }
+
+    private Iterable<byte[]> snapshotRecords() {
+        return () -> Stream.concat(
+                customers.values().stream().map(customer -> StoreRecords.encode(new CustomerPut(customer))),
+                orders.values().stream().map(order -> StoreRecords.encode(new OrderPut(order)))
+        ).iterator();
+    }
+
+    private void deleteSnapshotsBefore(long generation) throws IOException {
+        try (Stream<Path> listing = Files.list(directory)) {
+            for (Path file : listing.toList()) {
+                Long fileGeneration = ChangeLog.generationOf(file, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+                if (fileGeneration != null && fileGeneration < generation) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static LongStream generations(List<Path> files, String prefix, String suffix) {
+        return files.stream()
+                .map(file -> ChangeLog.generationOf(file, prefix, suffix))
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue);
+    }
+
+    private static String snapshotName(long generation) {
+        return SNAPSHOT_PREFIX + "%020d".formatted(generation) + SNAPSHOT_SUFFIX;
+    }
+
+    // Sorted like the SQL listings: createdAt, then the id's bytes as unsigned values (BINARY(16) order)
+    record OrderKey(LocalDateTime createdAt, OrderId orderId) implements Comparable<OrderKey> {
+        private static final Comparator<OrderKey> ORDER = Comparator.comparing(OrderKey::createdAt)
+                .thenComparing(key -> key.orderId().getValue().getMostSignificantBits(), Long::compareUnsigned)
+                .thenComparing(key -> key.orderId().getValue().getLeastSignificantBits(), Long::compareUnsigned);
+
+        // Sorts before every order created at that instant
+        static OrderKey first(LocalDateTime createdAt) {
+            return new OrderKey(createdAt, new OrderId(new UUID(0, 0)));
+        }
+
+        @Override
+        public int compareTo(OrderKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
\ No newline at end of file
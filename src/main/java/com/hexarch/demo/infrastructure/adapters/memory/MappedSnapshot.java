@@ -0,0 +1,92 @@
+package com.hexarch.demo.infrastructure.adapters.memory;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+// Snapshot file read and written through memory-mapped windows: [magic] then [length][payload] per record
+// and a -1 end marker. It is written to a temporary file and renamed into place, so a snapshot that
+// exists under its final name is always complete.
+final class MappedSnapshot {
+    private static final int MAGIC = 0x4F524453;
+    private static final int END = -1;
+    // Remapping per window keeps the mapped range bounded however large the store grows
+    private static final long WINDOW_BYTES = 64L * 1024 * 1024;
+
+    private MappedSnapshot() {}
+
+    static long write(Path target, Iterable<byte[]> records) throws IOException {
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        long size;
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long windowStart = 0;
+            MappedByteBuffer window = out.map(FileChannel.MapMode.READ_WRITE, windowStart, WINDOW_BYTES);
+            window.putInt(MAGIC);
+            for (byte[] record : records) {
+                // Room for this record plus the end marker
+                long needed = Integer.BYTES + record.length + Integer.BYTES;
+                if (window.remaining() < needed) {
+                    window.force();
+                    windowStart += window.position();
+                    window = out.map(FileChannel.MapMode.READ_WRITE, windowStart, Math.max(WINDOW_BYTES, needed));
+                }
+                window.putInt(record.length).put(record);
+            }
+            window.putInt(END);
+            window.force();
+            size = windowStart + window.position();
+            // Mapping grew the file to the end of the last window
+            out.truncate(size);
+            out.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return size;
+    }
+
+    static void read(Path file, Consumer<byte[]> consumer) throws IOException {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = in.size();
+            long windowStart = 0;
+            MappedByteBuffer window = map(in, windowStart, size, Integer.BYTES);
+            try {
+                if (window.getInt() != MAGIC) {
+                    throw new IllegalStateException("Not a store snapshot: " + file);
+                }
+                while (true) {
+                    if (window.remaining() < Integer.BYTES) {
+                        windowStart += window.position();
+                        window = map(in, windowStart, size, Integer.BYTES);
+                    }
+                    int length = window.getInt();
+                    if (length == END) {
+                        return;
+                    }
+                    if (length < 0) {
+                        throw new IllegalStateException("Corrupt record length " + length + " in " + file);
+                    }
+                    if (window.remaining() < length) {
+                        windowStart += window.position();
+                        window = map(in, windowStart, size, length);
+                    }
+                    byte[] record = new byte[length];
+                    window.get(record);
+                    consumer.accept(record);
+                }
+            } catch (BufferUnderflowException e) {
+                throw new IllegalStateException("Snapshot ends without its end marker: " + file, e);
+            }
+        }
+    }
+
+    private static MappedByteBuffer map(FileChannel in, long position, long size, long needed) throws IOException {
+        long length = Math.min(Math.max(WINDOW_BYTES, needed), size - position);
+        return in.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+}
\ No newline at end of file
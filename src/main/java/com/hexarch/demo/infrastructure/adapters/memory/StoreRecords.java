@@ -0,0 +1,138 @@
+package com.hexarch.demo.infrastructure.adapters.memory;
+
+import com.hexarch.demo.domain.model.CurrencyCode;
+import com.hexarch.demo.domain.model.Customer;
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.model.OrderId;
+import com.hexarch.demo.domain.model.OrderItem;
+import com.hexarch.demo.domain.model.OrderSnapshot;
+import com.hexarch.demo.domain.model.OrderStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Binary encoding shared by the change log and the snapshot. Puts carry the full state of the order or
+// customer, so applying the same record twice gives the same result. Enums are written by name so
+// reordering their constants does not corrupt existing files.
+final class StoreRecords {
+    private static final byte ORDER_PUT = 1;
+    private static final byte ORDER_REMOVED = 2;
+    private static final byte CUSTOMER_PUT = 3;
+    private static final byte CUSTOMER_REMOVED = 4;
+
+    sealed interface Change permits OrderPut, OrderRemoved, CustomerPut, CustomerRemoved {}
+
+    record OrderPut(OrderSnapshot order) implements Change {}
+
+    record OrderRemoved(OrderId orderId) implements Change {}
+
+    record CustomerPut(Customer customer) implements Change {}
+
+    record CustomerRemoved(CustomerId customerId) implements Change {}
+
+    private StoreRecords() {}
+
+    static byte[] encode(Change change) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            switch (change) {
+                case OrderPut(OrderSnapshot order) -> {
+                    out.writeByte(ORDER_PUT);
+                    writeUuid(out, order.id().getValue());
+                    writeUuid(out, order.customerId().getValue());
+                    out.writeUTF(order.status().name());
+                    writeTime(out, order.createdAt());
+                    writeTime(out, order.confirmedAt());
+                    out.writeInt(order.items().size());
+                    for (OrderItem item : order.items()) {
+                        out.writeUTF(item.getProductName());
+                        out.writeLong(item.getUnitPrice().getMinorUnits());
+                        out.writeUTF(item.getUnitPrice().getCurrency());
+                        out.writeInt(item.getQuantity());
+                    }
+                }
+                case OrderRemoved(OrderId orderId) -> {
+                    out.writeByte(ORDER_REMOVED);
+                    writeUuid(out, orderId.getValue());
+                }
+                case CustomerPut(Customer customer) -> {
+                    out.writeByte(CUSTOMER_PUT);
+                    writeUuid(out, customer.getId().getValue());
+                    out.writeUTF(customer.getName());
+                    out.writeUTF(customer.getEmail());
+                }
+                case CustomerRemoved(CustomerId customerId) -> {
+                    out.writeByte(CUSTOMER_REMOVED);
+                    writeUuid(out, customerId.getValue());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Change decode(byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            byte type = in.readByte();
+            return switch (type) {
+                case ORDER_PUT -> {
+                    OrderId id = new OrderId(readUuid(in));
+                    CustomerId customerId = new CustomerId(readUuid(in));
+                    OrderStatus status = OrderStatus.valueOf(in.readUTF());
+                    LocalDateTime createdAt = readTime(in);
+                    LocalDateTime confirmedAt = readTime(in);
+                    int itemCount = in.readInt();
+                    List<OrderItem> items = new ArrayList<>(itemCount);
+                    for (int i = 0; i < itemCount; i++) {
+                        String productName = in.readUTF();
+                        Money unitPrice = Money.ofMinor(in.readLong(), CurrencyCode.of(in.readUTF()));
+                        items.add(new OrderItem(productName, unitPrice, in.readInt()));
+                    }
+                    yield new OrderPut(new OrderSnapshot(id, customerId, List.copyOf(items), status,
+                            createdAt, confirmedAt));
+                }
+                case ORDER_REMOVED -> new OrderRemoved(new OrderId(readUuid(in)));
+                case CUSTOMER_PUT -> new CustomerPut(new Customer(new CustomerId(readUuid(in)), in.readUTF(), in.readUTF()));
+                case CUSTOMER_REMOVED -> new CustomerRemoved(new CustomerId(readUuid(in)));
+                default -> throw new IllegalStateException("Unknown record type: " + type);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        out.writeBoolean(time != null);
+        if (time != null) {
+            out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(time.getNano());
+        }
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
\ No newline at end of file
@@ -2,31 +2,105 @@ package com.hexarch.demo.infrastructure.adapters.payment;
 
 import com.hexarch.demo.domain.model.Money;
 import com.hexarch.demo.domain.ports.PaymentService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Component
 public class MockPaymentServiceAdapter implements PaymentService {
-    private final Random random = new Random();
+    private static final Logger log = LoggerFactory.getLogger(MockPaymentServiceAdapter.class);
+
+    private final long latencyMillis;
+    private final long latencyJitterMillis;
+    private final double slowCallRate;
+    private final long slowCallLatencyMillis;
+    private final double declineRate;
+    private final double errorRate;
+
+    public MockPaymentServiceAdapter(@Value("${orders.payment.mock.latency-ms:100}") long latencyMillis,
+                                     @Value("${orders.payment.mock.latency-jitter-ms:0}") long latencyJitterMillis,
+                                     @Value("${orders.payment.mock.slow-call-rate:0}") double slowCallRate,
+                                     @Value("${orders.payment.mock.slow-call-latency-ms:2000}") long slowCallLatencyMillis,
+                                     @Value("${orders.payment.mock.failure-rate:0.05}") double declineRate,
+                                     @Value("${orders.payment.mock.error-rate:0}") double errorRate) {
+        this.latencyMillis = latencyMillis;
+        this.latencyJitterMillis = latencyJitterMillis;
+        this.slowCallRate = slowCallRate;
+        this.slowCallLatencyMillis = slowCallLatencyMillis;
+        this.declineRate = declineRate;
+        this.errorRate = errorRate;
+    }
 
     @Override
     public boolean processPayment(String paymentReference, Money amount) {
-        // Simulate payment processing delay
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        if (!roundTrip(paymentReference)) {
             return false;
         }
 
-        // Simulate 95% success rate
-        boolean success = random.nextDouble() < 0.95;
-        
-        System.out.println("Processing payment: " + paymentReference + 
-                          " for amount: " + amount + 
-                          " - Result: " + (success ? "SUCCESS" : "FAILED"));
-        
+        // Simulate declines at the configured rate
+        boolean success = ThreadLocalRandom.current().nextDouble() >= declineRate;
+
+        if (log.isDebugEnabled()) {
+            log.atDebug()
+                    .addKeyValue("paymentReference", paymentReference)
+                    .addKeyValue("amount", amount.getAmount())
+                    .addKeyValue("currency", amount.getCurrency())
+                    .addKeyValue("approved", success)
+                    .log("Payment processed");
+        }
+
         return success;
     }
+
+    // A batch capture costs one round trip; declines are still decided per payment
+    @Override
+    public List<Boolean> processPayments(List<PaymentRequest> payments) {
+        if (!roundTrip(payments.size() + " payments")) {
+            return Collections.nCopies(payments.size(), false);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Boolean> results = new ArrayList<>(payments.size());
+        int captured = 0;
+        for (int i = 0; i < payments.size(); i++) {
+            boolean success = random.nextDouble() >= declineRate;
+            results.add(success);
+            captured += success ? 1 : 0;
+        }
+
+        log.atDebug()
+                .addKeyValue("payments", payments.size())
+                .addKeyValue("firstPaymentReference", payments.get(0).paymentReference())
+                .addKeyValue("captured", captured)
+                .log("Payment batch processed");
+
+        return results;
+    }
+
+    // Simulate provider latency: a base delay with jitter, plus an occasional slow tail
+    private boolean roundTrip(String description) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = random.nextDouble() < slowCallRate
+                ? slowCallLatencyMillis
+                : latencyMillis + (latencyJitterMillis > 0 ? random.nextLong(latencyJitterMillis + 1) : 0);
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        if (random.nextDouble() < errorRate) {
+            throw new IllegalStateException("Payment provider error for " + description);
+        }
+        return true;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.hexarch.demo.infrastructure.adapters.payment;
+
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.ports.PaymentOutcomeUnknownException;
+import com.hexarch.demo.domain.ports.PaymentService;
+import com.hexarch.demo.domain.ports.PaymentUnavailableException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+// Micro-batches concurrent single payments into batch captures. The first waiting payment opens a window of
+// maxWait; the batch is sent when the window closes or maxBatchSize payments are queued, and each caller
+// gets its own result back. A batch-level error fails every payment in it. A caller waits at most resultTimeout
+// for its answer, which should cover the window plus the delegate's own timeout.
+public class PaymentBatchCoalescer implements PaymentService, AutoCloseable {
+    private final PaymentService delegate;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long resultTimeoutNanos;
+    private final BlockingQueue<PendingPayment> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService dispatcher;
+    private final Thread collector;
+    private volatile boolean running = true;
+
+    public PaymentBatchCoalescer(PaymentService delegate, int maxBatchSize, Duration maxWait, Duration resultTimeout) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.resultTimeoutNanos = resultTimeout.toNanos();
+        this.dispatcher = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("payment-batch-", 0).factory());
+        this.collector = Thread.ofPlatform().daemon().name("payment-coalescer").start(this::collect);
+    }
+
+    @Override
+    public boolean processPayment(String paymentReference, Money amount) {
+        if (!running) {
+            throw new PaymentUnavailableException("Payment coalescer is shut down");
+        }
+        PendingPayment pending = new PendingPayment(new PaymentRequest(paymentReference, amount), new CompletableFuture<>());
+        queue.add(pending);
+        // close() may have drained the queue between the check above and the add; nothing would collect this one
+        if (!running && queue.remove(pending)) {
+            throw new PaymentUnavailableException("Payment coalescer is shut down");
+        }
+        try {
+            return pending.result().get(resultTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (queue.remove(pending)) {
+                throw new PaymentUnavailableException("Payment " + paymentReference + " was never sent", e);
+            }
+            throw new PaymentOutcomeUnknownException("Payment " + paymentReference + " timed out in its batch", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new PaymentOutcomeUnknownException("Payment " + paymentReference + " failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentOutcomeUnknownException("Interrupted while waiting for payment " + paymentReference, e);
+        }
+    }
+
+    // Callers that already hold a batch go straight through
+    @Override
+    public List<Boolean> processPayments(List<PaymentRequest> payments) {
+        return delegate.processPayments(payments);
+    }
+
+    private void collect() {
+        while (running) {
+            List<PendingPayment> batch = new ArrayList<>(maxBatchSize);
+            try {
+                PendingPayment first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingPayment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                fail(batch, new PaymentUnavailableException("Payment coalescer is shut down"));
+                break;
+            }
+            dispatcher.execute(() -> dispatch(batch));
+        }
+    }
+
+    private void dispatch(List<PendingPayment> batch) {
+        try {
+            if (batch.size() == 1) {
+                PaymentRequest request = batch.get(0).request();
+                batch.get(0).result().complete(delegate.processPayment(request.paymentReference(), request.amount()));
+                return;
+            }
+            List<Boolean> results = delegate.processPayments(batch.stream().map(PendingPayment::request).toList());
+            if (results.size() != batch.size()) {
+                throw new IllegalStateException("Provider answered " + results.size() + " of " + batch.size() + " payments");
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            fail(batch, e);
+        }
+    }
+
+    private static void fail(List<PendingPayment> batch, RuntimeException error) {
+        batch.forEach(pending -> pending.result().completeExceptionally(error));
+    }
+
+    @Override
+    public void close() throws Exception {
+        running = false;
+        collector.interrupt();
+        collector.join();
+        List<PendingPayment> stranded = new ArrayList<>();
+        queue.drainTo(stranded);
+        fail(stranded, new PaymentUnavailableException("Payment coalescer is shut down"));
+        dispatcher.close();
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private record PendingPayment(PaymentRequest request, CompletableFuture<Boolean> result) {}
+}
\ No newline at end of file
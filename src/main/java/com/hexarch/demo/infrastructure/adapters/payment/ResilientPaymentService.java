@@ -0,0 +1,169 @@
+package com.hexarch.demo.infrastructure.adapters.payment;
+
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.ports.PaymentOutcomeUnknownException;
+import com.hexarch.demo.domain.ports.PaymentService;
+import com.hexarch.demo.domain.ports.PaymentUnavailableException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Guards a PaymentService with a per-call timeout, a concurrency bulkhead, a circuit breaker and optional
+// hedging. Provider calls run on their own threads, so a slow provider never holds request threads longer
+// than the timeout. Declines (false) are answers; only errors and timeouts count against the breaker.
+public class ResilientPaymentService implements PaymentService, AutoCloseable {
+    private final PaymentService delegate;
+    private final Settings settings;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final ExecutorService executor;
+
+    public ResilientPaymentService(PaymentService delegate, Settings settings) {
+        this.delegate = delegate;
+        this.settings = settings;
+        this.bulkhead = new Semaphore(settings.maxConcurrentCalls());
+        this.circuitBreaker = new CircuitBreaker(settings.windowSize(), settings.minimumCalls(),
+                settings.failureRateThreshold(), settings.openDuration(), settings.halfOpenCalls(), System::nanoTime);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("payment-", 0).factory());
+    }
+
+    @Override
+    public boolean processPayment(String paymentReference, Money amount) {
+        return guarded(paymentReference, () -> delegate.processPayment(paymentReference, amount));
+    }
+
+    // A batch is one provider call, so it gets one timeout, one bulkhead permit and one breaker outcome
+    @Override
+    public List<Boolean> processPayments(List<PaymentRequest> payments) {
+        String description = payments.size() + " payments starting " + payments.get(0).paymentReference();
+        return guarded(description, () -> delegate.processPayments(payments));
+    }
+
+    private <T> T guarded(String description, Callable<T> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new PaymentUnavailableException("Payment provider circuit is open");
+        }
+        if (!acquireBulkhead()) {
+            circuitBreaker.onIgnored();
+            throw new PaymentUnavailableException("Too many concurrent payment calls");
+        }
+
+        // Attempts share the payment reference, so the provider can deduplicate a hedged duplicate
+        CompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        List<Attempt<T>> attempts = new ArrayList<>(2);
+        attempts.add(submit(completion, call));
+        long deadline = System.nanoTime() + settings.timeout().toNanos();
+        Throwable lastError = null;
+        try {
+            Future<T> done = null;
+            if (settings.hedgeDelay() != null) {
+                done = completion.poll(Math.min(settings.hedgeDelay().toNanos(), settings.timeout().toNanos()),
+                        TimeUnit.NANOSECONDS);
+                if (done == null && bulkhead.tryAcquire()) {
+                    attempts.add(submit(completion, call));
+                }
+            }
+
+            for (int pending = attempts.size(); pending > 0; pending--) {
+                if (done == null) {
+                    done = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (done == null) {
+                        break;
+                    }
+                }
+                try {
+                    T result = done.get();
+                    circuitBreaker.onSuccess();
+                    return result;
+                } catch (ExecutionException e) {
+                    lastError = e.getCause();
+                    done = null;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.onIgnored();
+            throw new PaymentOutcomeUnknownException("Interrupted while waiting for payment " + description, e);
+        } finally {
+            attempts.forEach(Attempt::abandon);
+        }
+
+        circuitBreaker.onFailure();
+        if (lastError != null) {
+            throw new PaymentOutcomeUnknownException("Payment provider error for " + description, lastError);
+        }
+        throw new PaymentOutcomeUnknownException("Payment " + description + " timed out after " + settings.timeout());
+    }
+
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    int availableCalls() {
+        return bulkhead.availablePermits();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(settings.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private <T> Attempt<T> submit(CompletionService<T> completion, Callable<T> call) {
+        Attempt<T> attempt = new Attempt<>(call);
+        attempt.future = completion.submit(attempt);
+        return attempt;
+    }
+
+    // Owns one bulkhead permit, released exactly once whether the call runs or is abandoned before starting
+    private final class Attempt<T> implements Callable<T> {
+        private final Callable<T> call;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private volatile Future<T> future;
+
+        private Attempt(Callable<T> call) {
+            this.call = call;
+        }
+
+        @Override
+        public T call() throws Exception {
+            if (!claimed.compareAndSet(false, true)) {
+                throw new CancellationException("Abandoned before start");
+            }
+            try {
+                return call.call();
+            } finally {
+                bulkhead.release();
+            }
+        }
+
+        void abandon() {
+            future.cancel(true);
+            if (claimed.compareAndSet(false, true)) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    // hedgeDelay is null when hedging is off
+    public record Settings(Duration timeout,
+                           int maxConcurrentCalls,
+                           Duration maxWait,
+                           int windowSize,
+                           int minimumCalls,
+                           double failureRateThreshold,
+                           Duration openDuration,
+                           int halfOpenCalls,
+                           Duration hedgeDelay) {}
+}
\ No newline at end of file
@@ -1,14 +1,19 @@
 package com.hexarch.demo.infrastructure.adapters.persistence;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 @Entity
 @Table(name = "customers")
 public class CustomerEntity {
     @Id
-    private String id;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(columnDefinition = UuidColumns.DEFINITION)
+    private UUID id;
     
     @Column(nullable = false)
     private String name;
@@ -26,7 +31,7 @@ public class CustomerEntity {
         this.createdAt = LocalDateTime.now();
     }
 
-    public CustomerEntity(String id, String name, String email) {
+    public CustomerEntity(UUID id, String name, String email) {
         this();
         this.id = id;
         this.name = name;
@@ -34,11 +39,11 @@ public class CustomerEntity {
     }
 
     // Getters and Setters
-    public String getId() {
+    public UUID getId() {
         return id;
     }
 
-    public void setId(String id) {
+    public void setId(UUID id) {
         this.id = id;
     }
 
@@ -0,0 +1,163 @@
+package com.hexarch.demo.infrastructure.adapters.persistence;
+
+import com.hexarch.demo.domain.model.*;
+import com.hexarch.demo.domain.ports.CustomerOrderStatsRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Counters are changed with single UPDATE statements rather than read-modify-write, so concurrent
+// orders of one customer never lose increments. The stats row update also locks the customer's row,
+// which serializes the insert of a first paid total per currency.
+@Component
+public class CustomerOrderStatsAdapter implements CustomerOrderStatsRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void initialize(CustomerId customerId) {
+        entityManager.persist(new CustomerOrderStatsEntity(customerId.getValue()));
+    }
+
+    @Override
+    public void recordCreated(List<Order> orders) {
+        Map<CustomerId, CreatedOrders> byCustomer = new LinkedHashMap<>();
+        for (Order order : orders) {
+            byCustomer.computeIfAbsent(order.getCustomerId(), id -> new CreatedOrders()).add(order.getCreatedAt());
+        }
+
+        byCustomer.forEach((customerId, created) -> {
+            int updated = entityManager.createQuery(
+                            "update CustomerOrderStatsEntity s set s.createdCount = s.createdCount + :count,"
+                                    + " s.lastOrderAt = case when s.lastOrderAt is null or s.lastOrderAt < :createdAt"
+                                    + " then :createdAt else s.lastOrderAt end"
+                                    + " where s.customerId = :customerId")
+                    .setParameter("count", (long) created.count)
+                    .setParameter("createdAt", created.lastCreatedAt)
+                    .setParameter("customerId", customerId.getValue())
+                    .executeUpdate();
+            if (updated == 0) {
+                // Customer created before the projection existed and not rebuilt since
+                CustomerOrderStatsEntity entity = new CustomerOrderStatsEntity(customerId.getValue());
+                entity.setCreatedCount(created.count);
+                entity.setLastOrderAt(created.lastCreatedAt);
+                entityManager.persist(entity);
+            }
+        });
+    }
+
+    @Override
+    public void recordStatusChange(Order order, OrderStatus previousStatus) {
+        if (order.getStatus() == previousStatus) {
+            return;
+        }
+        String from = counterField(previousStatus);
+        String to = counterField(order.getStatus());
+        int updated = entityManager.createQuery(
+                        "update CustomerOrderStatsEntity s set s." + from + " = s." + from + " - 1,"
+                                + " s." + to + " = s." + to + " + 1 where s.customerId = :customerId")
+                .setParameter("customerId", order.getCustomerId().getValue())
+                .executeUpdate();
+        // No row means the customer's stats were never built; a rebuild will pick this order up
+        if (updated == 0 || order.getStatus() != OrderStatus.PAID) {
+            return;
+        }
+
+        Money total = order.getTotalAmount();
+        int added = entityManager.createQuery(
+                        "update CustomerPaidTotalEntity t set t.paidTotal = t.paidTotal + :amount"
+                                + " where t.customerId = :customerId and t.currency = :currency")
+                .setParameter("amount", total.getAmount())
+                .setParameter("customerId", order.getCustomerId().getValue())
+                .setParameter("currency", total.getCurrency())
+                .executeUpdate();
+        if (added == 0) {
+            entityManager.persist(new CustomerPaidTotalEntity(
+                    order.getCustomerId().getValue(), total.getCurrency(), total.getAmount()));
+        }
+    }
+
+    @Override
+    public Optional<CustomerOrderStats> findByCustomerId(CustomerId customerId) {
+        // Scalar reads rather than find(): counters change through bulk updates that bypass managed entities
+        List<Object[]> rows = entityManager.createQuery(
+                        "select s.createdCount, s.confirmedCount, s.paidCount, s.cancelledCount, s.lastOrderAt"
+                                + " from CustomerOrderStatsEntity s where s.customerId = :customerId", Object[].class)
+                .setParameter("customerId", customerId.getValue())
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+
+        List<Money> paidTotals = entityManager.createQuery(
+                        "select t.paidTotal, t.currency from CustomerPaidTotalEntity t"
+                                + " where t.customerId = :customerId order by t.currency", Object[].class)
+                .setParameter("customerId", customerId.getValue())
+                .getResultStream()
+                .map(total -> new Money((BigDecimal) total[0], (String) total[1]))
+                .toList();
+
+        Map<OrderStatus, Long> ordersByStatus = new EnumMap<>(OrderStatus.class);
+        ordersByStatus.put(OrderStatus.CREATED, (Long) row[0]);
+        ordersByStatus.put(OrderStatus.CONFIRMED, (Long) row[1]);
+        ordersByStatus.put(OrderStatus.PAID, (Long) row[2]);
+        ordersByStatus.put(OrderStatus.CANCELLED, (Long) row[3]);
+
+        return Optional.of(new CustomerOrderStats(customerId, ordersByStatus, paidTotals, (LocalDateTime) row[4]));
+    }
+
+    @Override
+    public int rebuild() {
+        entityManager.createNativeQuery("delete from customer_paid_totals").executeUpdate();
+        entityManager.createNativeQuery("delete from customer_order_stats").executeUpdate();
+        // Every customer gets a row, so later increments never need to insert one
+        int customers = entityManager.createNativeQuery(
+                "insert into customer_order_stats"
+                        + " (customer_id, created_count, confirmed_count, paid_count, cancelled_count, last_order_at)"
+                        + " select c.id,"
+                        + " sum(case when o.status = 'CREATED' then 1 else 0 end),"
+                        + " sum(case when o.status = 'CONFIRMED' then 1 else 0 end),"
+                        + " sum(case when o.status = 'PAID' then 1 else 0 end),"
+                        + " sum(case when o.status = 'CANCELLED' then 1 else 0 end),"
+                        + " max(o.created_at)"
+                        + " from customers c left join orders o on o.customer_id = c.id"
+                        + " group by c.id").executeUpdate();
+        entityManager.createNativeQuery(
+                "insert into customer_paid_totals (customer_id, currency, paid_total)"
+                        + " select customer_id, currency, sum(total_amount) from orders"
+                        + " where status = 'PAID' group by customer_id, currency").executeUpdate();
+        entityManager.clear();
+        return customers;
+    }
+
+    private static String counterField(OrderStatus status) {
+        return switch (status) {
+            case CREATED -> "createdCount";
+            case CONFIRMED -> "confirmedCount";
+            case PAID -> "paidCount";
+            case CANCELLED -> "cancelledCount";
+        };
+    }
+
+    private static final class CreatedOrders {
+        private int count;
+        private LocalDateTime lastCreatedAt;
+
+        void add(LocalDateTime createdAt) {
+            count++;
+            if (lastCreatedAt == null || createdAt.isAfter(lastCreatedAt)) {
+                lastCreatedAt = createdAt;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.hexarch.demo.infrastructure.adapters.persistence;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+@Entity
+@Table(name = "customer_paid_totals")
+@IdClass(CustomerPaidTotalEntity.Key.class)
+public class CustomerPaidTotalEntity {
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "customer_id", columnDefinition = UuidColumns.DEFINITION)
+    private UUID customerId;
+
+    @Id
+    private String currency;
+
+    @Column(name = "paid_total", precision = 19, scale = 2, nullable = false)
+    private BigDecimal paidTotal;
+
+    public CustomerPaidTotalEntity() {}
+
+    public CustomerPaidTotalEntity(UUID customerId, String currency, BigDecimal paidTotal) {
+        this.customerId = customerId;
+        this.currency = currency;
+        this.paidTotal = paidTotal;
+    }
+
+    // Getters and Setters
+    public UUID getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(UUID customerId) {
+        this.customerId = customerId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public BigDecimal getPaidTotal() {
+        return paidTotal;
+    }
+
+    public void setPaidTotal(BigDecimal paidTotal) {
+        this.paidTotal = paidTotal;
+    }
+
+    public static class Key implements Serializable {
+        private UUID customerId;
+        private String currency;
+
+        public Key() {}
+
+        public Key(UUID customerId, String currency) {
+            this.customerId = customerId;
+            this.currency = currency;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return Objects.equals(customerId, key.customerId) && Objects.equals(currency, key.currency);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(customerId, currency);
+        }
+    }
+}
\ No newline at end of file
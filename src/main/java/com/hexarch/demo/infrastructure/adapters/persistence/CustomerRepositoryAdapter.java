@@ -3,12 +3,25 @@ package com.hexarch.demo.infrastructure.adapters.persistence;
 import com.hexarch.demo.domain.model.Customer;
 import com.hexarch.demo.domain.model.CustomerId;
 import com.hexarch.demo.domain.ports.CustomerRepository;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
+@Profile("!memory")
 public class CustomerRepositoryAdapter implements CustomerRepository {
+    private static final Object IDENTITY_MAP_KEY = CustomerRepositoryAdapter.class.getName() + ".identityMap";
+
     private final SpringDataCustomerRepository springDataCustomerRepository;
 
     public CustomerRepositoryAdapter(SpringDataCustomerRepository springDataCustomerRepository) {
@@ -19,18 +32,68 @@ public class CustomerRepositoryAdapter implements CustomerRepository {
     public Customer save(Customer customer) {
         CustomerEntity entity = toEntity(customer);
         CustomerEntity savedEntity = springDataCustomerRepository.save(entity);
-        return toDomain(savedEntity);
+        Customer saved = toDomain(savedEntity);
+        Map<CustomerId, Customer> identityMap = identityMap();
+        if (identityMap != null) {
+            identityMap.put(saved.getId(), saved);
+        }
+        return saved;
     }
 
     @Override
     public Optional<Customer> findById(CustomerId customerId) {
-        return springDataCustomerRepository.findById(customerId.toString())
+        Map<CustomerId, Customer> identityMap = identityMap();
+        if (identityMap == null) {
+            return springDataCustomerRepository.findById(customerId.getValue())
+                    .map(this::toDomain);
+        }
+
+        // Customers are immutable, so one instance can be shared for the rest of the unit of work
+        Customer known = identityMap.get(customerId);
+        if (known != null) {
+            return Optional.of(known);
+        }
+        Optional<Customer> loaded = springDataCustomerRepository.findById(customerId.getValue())
                 .map(this::toDomain);
+        loaded.ifPresent(customer -> identityMap.put(customerId, customer));
+        return loaded;
+    }
+
+    @Override
+    public Set<CustomerId> findExistingIds(Collection<CustomerId> customerIds) {
+        if (customerIds.isEmpty()) {
+            return Set.of();
+        }
+        List<UUID> ids = customerIds.stream().map(CustomerId::getValue).toList();
+        return springDataCustomerRepository.findExistingIds(ids).stream()
+                .map(CustomerId::new)
+                .collect(Collectors.toSet());
+    }
+
+    // Identity map bound to the current transaction, i.e. to the request for the synchronous endpoints
+    @SuppressWarnings("unchecked")
+    private Map<CustomerId, Customer> identityMap() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Map<CustomerId, Customer> identityMap =
+                (Map<CustomerId, Customer>) TransactionSynchronizationManager.getResource(IDENTITY_MAP_KEY);
+        if (identityMap == null) {
+            identityMap = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(IDENTITY_MAP_KEY, identityMap);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(IDENTITY_MAP_KEY);
+                }
+            });
+        }
+        return identityMap;
     }
 
     private CustomerEntity toEntity(Customer customer) {
         return new CustomerEntity(
-                customer.getId().toString(),
+                customer.getId().getValue(),
                 customer.getName(),
                 customer.getEmail()
         );
@@ -38,7 +101,7 @@ public class CustomerRepositoryAdapter implements CustomerRepository {
 
     private Customer toDomain(CustomerEntity entity) {
         return new Customer(
-                CustomerId.fromString(entity.getId()),
+                new CustomerId(entity.getId()),
                 entity.getName(),
                 entity.getEmail()
         );
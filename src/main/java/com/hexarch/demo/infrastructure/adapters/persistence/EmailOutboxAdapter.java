@@ -0,0 +1,111 @@
+package com.hexarch.demo.infrastructure.adapters.persistence;
+
+import com.hexarch.demo.domain.ports.EmailOutbox;
+import com.hexarch.demo.domain.ports.EmailService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+public class EmailOutboxAdapter implements EmailOutbox {
+    private final SpringDataEmailOutboxRepository springDataEmailOutboxRepository;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final Duration claimLease;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public EmailOutboxAdapter(SpringDataEmailOutboxRepository springDataEmailOutboxRepository,
+                              @Value("${orders.email.outbox.max-attempts:5}") int maxAttempts,
+                              @Value("${orders.email.outbox.retry-backoff-ms:1000}") long retryBackoffMillis,
+                              @Value("${orders.email.outbox.claim-lease-ms:60000}") long claimLeaseMillis) {
+        this.springDataEmailOutboxRepository = springDataEmailOutboxRepository;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.claimLease = Duration.ofMillis(claimLeaseMillis);
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(EmailService.OrderConfirmationEmail email) {
+        // Dedup by order id: a second confirmation email for the same order is dropped
+        if (entityManager.find(EmailOutboxEntity.class, email.orderId()) != null) {
+            return;
+        }
+        // persist() rather than save(): the id is assigned, so save() would merge and SELECT the row again
+        entityManager.persist(new EmailOutboxEntity(
+                email.orderId(),
+                email.customerEmail(),
+                email.orderDetails(),
+                LocalDateTime.now()
+        ));
+    }
+
+    @Override
+    // Claims the due rows by moving next_attempt_at past a lease, so other instances polling meanwhile
+    // skip them. The move is a compare-and-set on the value just read: a row another instance claimed
+    // first is left to it. Rows not marked sent or failed come due again once the lease runs out.
+    // Not read-only, so it stays on the primary.
+    @Transactional
+    public List<EmailService.OrderConfirmationEmail> fetchDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(claimLease);
+        List<EmailService.OrderConfirmationEmail> claimed = new ArrayList<>();
+        for (EmailOutboxEntity entity : springDataEmailOutboxRepository
+                .findDue(EmailOutboxStatusEntity.PENDING, now, PageRequest.of(0, limit))) {
+            int updated = entityManager.createQuery(
+                            "update EmailOutboxEntity e set e.nextAttemptAt = :leaseUntil"
+                                    + " where e.orderId = :orderId and e.status = :pending and e.nextAttemptAt = :seen")
+                    .setParameter("leaseUntil", leaseUntil)
+                    .setParameter("orderId", entity.getOrderId())
+                    .setParameter("pending", EmailOutboxStatusEntity.PENDING)
+                    .setParameter("seen", entity.getNextAttemptAt())
+                    .executeUpdate();
+            if (updated == 1) {
+                claimed.add(new EmailService.OrderConfirmationEmail(
+                        entity.getCustomerEmail(),
+                        entity.getOrderId(),
+                        entity.getOrderDetails()));
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    @Transactional
+    public void markSent(Collection<String> orderIds) {
+        LocalDateTime now = LocalDateTime.now();
+        springDataEmailOutboxRepository.findAllById(orderIds).forEach(entity -> {
+            entity.setStatus(EmailOutboxStatusEntity.SENT);
+            entity.setAttempts(entity.getAttempts() + 1);
+            entity.setSentAt(now);
+        });
+    }
+
+    @Override
+    @Transactional
+    public void markFailed(Collection<String> orderIds) {
+        LocalDateTime now = LocalDateTime.now();
+        springDataEmailOutboxRepository.findAllById(orderIds).forEach(entity -> {
+            int attempts = entity.getAttempts() + 1;
+            entity.setAttempts(attempts);
+            if (attempts >= maxAttempts) {
+                entity.setStatus(EmailOutboxStatusEntity.FAILED);
+            } else {
+                // Exponential backoff: backoff, 2x backoff, 4x backoff, ...
+                long delay = retryBackoffMillis << Math.min(attempts - 1, 20);
+                entity.setNextAttemptAt(now.plusNanos(delay * 1_000_000L));
+            }
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.hexarch.demo.infrastructure.adapters.persistence;
+
+public enum EmailOutboxStatusEntity {
+    PENDING,
+    SENT,
+    FAILED
+}
\ No newline at end of file
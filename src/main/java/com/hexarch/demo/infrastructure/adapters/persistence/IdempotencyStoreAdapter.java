@@ -0,0 +1,125 @@
+package com.hexarch.demo.infrastructure.adapters.persistence;
+
+import com.hexarch.demo.domain.ports.IdempotencyStore;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.PessimisticLockException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.LockAcquisitionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Component
+public class IdempotencyStoreAdapter implements IdempotencyStore {
+    private final TransactionTemplate requiresNew;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public IdempotencyStoreAdapter(PlatformTransactionManager transactionManager,
+                                   @Value("${orders.idempotency.ttl:24h}") Duration ttl,
+                                   @Value("${orders.idempotency.in-progress-timeout:60s}") Duration inProgressTimeout) {
+        // Claims must be visible to other nodes right away, whatever transaction the caller is in
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ttl = ttl;
+        this.inProgressTimeout = inProgressTimeout;
+    }
+
+    @Override
+    public Optional<IdempotencyEntry> claim(String key, String requestHash) {
+        try {
+            return requiresNew.execute(tx -> {
+                LocalDateTime now = LocalDateTime.now();
+                IdempotencyKeyEntity existing = entityManager.find(IdempotencyKeyEntity.class, key);
+                if (existing != null && existing.getExpiresAt().isAfter(now)) {
+                    return Optional.of(toEntry(existing));
+                }
+                if (existing != null) {
+                    // Expired: either an old response or a claim whose request never finished. Deleted only
+                    // while still expired, so of two retries that found it, the later one inserts a duplicate.
+                    entityManager.detach(existing);
+                    entityManager.createQuery(
+                                    "delete from IdempotencyKeyEntity k where k.scopedKey = :key and k.expiresAt < :now")
+                            .setParameter("key", key)
+                            .setParameter("now", now)
+                            .executeUpdate();
+                }
+                // An unfinished claim expires on its own, so a crashed request cannot block the key forever
+                entityManager.persist(new IdempotencyKeyEntity(key, requestHash, now, now.plus(inProgressTimeout)));
+                entityManager.flush();
+                return Optional.<IdempotencyEntry>empty();
+            });
+        } catch (DataIntegrityViolationException | ConcurrencyFailureException | PersistenceException e) {
+            if (!isConflict(e)) {
+                throw e;
+            }
+            // Another request deleted or inserted the key first; report it as in progress
+            return Optional.of(new IdempotencyEntry(key, null, null));
+        }
+    }
+
+    @Override
+    public void complete(String key, String requestHash, StoredResponse response) {
+        requiresNew.executeWithoutResult(tx -> {
+            IdempotencyKeyEntity entity = entityManager.find(IdempotencyKeyEntity.class, key);
+            if (entity == null) {
+                return;
+            }
+            entity.setStatusCode(response.status());
+            entity.setContentType(response.contentType());
+            entity.setLocation(response.location());
+            entity.setResponseBody(response.body());
+            entity.setExpiresAt(LocalDateTime.now().plus(ttl));
+        });
+    }
+
+    @Override
+    public void release(String key) {
+        requiresNew.executeWithoutResult(tx -> entityManager.createQuery(
+                        "delete from IdempotencyKeyEntity k where k.scopedKey = :key and k.statusCode is null")
+                .setParameter("key", key)
+                .executeUpdate());
+    }
+
+    @Scheduled(fixedDelayString = "${orders.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        requiresNew.executeWithoutResult(tx -> entityManager.createQuery(
+                        "delete from IdempotencyKeyEntity k where k.expiresAt < :now")
+                .setParameter("now", LocalDateTime.now())
+                .executeUpdate());
+    }
+
+    private static boolean isConflict(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException || cause instanceof DataIntegrityViolationException
+                    || cause instanceof LockAcquisitionException || cause instanceof ConcurrencyFailureException
+                    || cause instanceof OptimisticLockException || cause instanceof PessimisticLockException
+                    || cause instanceof LockTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static IdempotencyEntry toEntry(IdempotencyKeyEntity entity) {
+        StoredResponse response = entity.getStatusCode() == null ? null : new StoredResponse(
+                entity.getStatusCode(), entity.getContentType(), entity.getLocation(), entity.getResponseBody());
+        return new IdempotencyEntry(entity.getScopedKey(), entity.getRequestHash(), response);
+    }
+}
\ No newline at end of file
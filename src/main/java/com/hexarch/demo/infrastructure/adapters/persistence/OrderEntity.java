@@ -1,18 +1,32 @@
 package com.hexarch.demo.infrastructure.adapters.persistence;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 @Entity
-@Table(name = "orders")
+@DynamicUpdate
+@Table(name = "orders", indexes = {
+        // Keyset pagination: equality column first, then the (created_at, id) seek columns
+        @Index(name = "idx_orders_customer_created", columnList = "customer_id, created_at, id"),
+        // InnoDB appends the primary key to secondary indexes, so this also covers the id tie-break
+        @Index(name = "idx_orders_status_created", columnList = "status, created_at"),
+        // Day-range exports
+        @Index(name = "idx_orders_created", columnList = "created_at")
+})
 public class OrderEntity {
     @Id
-    private String id;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(columnDefinition = UuidColumns.DEFINITION)
+    private UUID id;
     
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "customer_id", nullable = false)
+    @JoinColumn(name = "customer_id", nullable = false, columnDefinition = UuidColumns.DEFINITION)
     private CustomerEntity customer;
     
     @Enumerated(EnumType.STRING)
@@ -31,12 +45,17 @@ public class OrderEntity {
     @Column(name = "confirmed_at")
     private LocalDateTime confirmedAt;
 
+    // Bumped by every update, including the conditional status updates in OrderRepositoryAdapter
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<OrderItemEntity> items;
 
     public OrderEntity() {}
 
-    public OrderEntity(String id, CustomerEntity customer, OrderStatusEntity status, 
+    public OrderEntity(UUID id, CustomerEntity customer, OrderStatusEntity status, 
                       BigDecimal totalAmount, String currency, LocalDateTime createdAt) {
         this.id = id;
         this.customer = customer;
@@ -47,11 +66,11 @@ public class OrderEntity {
     }
 
     // Getters and Setters
-    public String getId() {
+    public UUID getId() {
         return id;
     }
 
-    public void setId(String id) {
+    public void setId(UUID id) {
         this.id = id;
     }
 
@@ -103,6 +122,10 @@ public class OrderEntity {
         this.confirmedAt = confirmedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public List<OrderItemEntity> getItems() {
         return items;
     }
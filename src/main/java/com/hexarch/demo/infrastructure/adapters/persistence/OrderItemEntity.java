@@ -6,12 +6,14 @@ import java.math.BigDecimal;
 @Entity
 @Table(name = "order_items")
 public class OrderItemEntity {
+    // IDENTITY would force one INSERT per row; a pooled sequence lets Hibernate batch item inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")
+    @SequenceGenerator(name = "order_item_seq", sequenceName = "order_items_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "order_id", nullable = false)
+    @JoinColumn(name = "order_id", nullable = false, columnDefinition = UuidColumns.DEFINITION)
     private OrderEntity order;
     
     @Column(name = "product_name", nullable = false)
@@ -2,49 +2,204 @@ package com.hexarch.demo.infrastructure.adapters.persistence;
 
 import com.hexarch.demo.domain.model.*;
 import com.hexarch.demo.domain.ports.OrderRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Component
+@Profile("!memory & !event-store")
 public class OrderRepositoryAdapter implements OrderRepository {
     private final SpringDataOrderRepository springDataOrderRepository;
-    private final SpringDataCustomerRepository springDataCustomerRepository;
+    private final int batchSize;
+    private final int exportFetchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     public OrderRepositoryAdapter(SpringDataOrderRepository springDataOrderRepository,
-                                SpringDataCustomerRepository springDataCustomerRepository) {
+                                @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize,
+                                @Value("${orders.export.fetch-size:500}") int exportFetchSize) {
         this.springDataOrderRepository = springDataOrderRepository;
-        this.springDataCustomerRepository = springDataCustomerRepository;
+        this.batchSize = batchSize;
+        this.exportFetchSize = exportFetchSize;
     }
 
     @Override
+    @Transactional
     public Order save(Order order) {
-        CustomerEntity customerEntity = springDataCustomerRepository.findById(order.getCustomerId().toString())
-                .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + order.getCustomerId()));
+        if (order.isNew()) {
+            // persist() rather than merge(): a brand-new order needs no SELECT first
+            entityManager.persist(toNewEntity(order));
+        } else if (!order.getPendingEvents().isEmpty()) {
+            // Items never change after creation, so only the lifecycle columns are written back.
+            // The entity is usually already managed by this transaction, and @DynamicUpdate keeps
+            // the UPDATE to the columns that actually changed.
+            OrderEntity entity = entityManager.find(OrderEntity.class, order.getId().getValue());
+            if (entity == null) {
+                throw new IllegalArgumentException("Order not found: " + order.getId());
+            }
+            entity.setStatus(OrderStatusEntity.valueOf(order.getStatus().name()));
+            entity.setConfirmedAt(order.getConfirmedAt());
+        }
+        order.clearPendingEvents();
+        return order;
+    }
 
-        OrderEntity entity = toEntity(order, customerEntity);
-        OrderEntity savedEntity = springDataOrderRepository.save(entity);
-        
-        // Save order items
-        List<OrderItemEntity> itemEntities = order.getItems().stream()
-                .map(item -> toItemEntity(item, savedEntity))
-                .toList();
-        savedEntity.setItems(itemEntities);
-        
-        return toDomain(savedEntity);
+    @Override
+    @Transactional
+    public boolean compareAndSetStatus(Order order, OrderStatus expectedStatus) {
+        // The database picks the single winner, without a read-modify-write or a SELECT ... FOR UPDATE.
+        // The version bump makes a stale managed copy fail its optimistic check instead of overwriting.
+        int updated = entityManager.createQuery(
+                        "update OrderEntity o set o.status = :status, o.confirmedAt = :confirmedAt,"
+                                + " o.version = o.version + 1 where o.id = :id and o.status = :expected")
+                .setParameter("status", OrderStatusEntity.valueOf(order.getStatus().name()))
+                .setParameter("confirmedAt", order.getConfirmedAt())
+                .setParameter("id", order.getId().getValue())
+                .setParameter("expected", OrderStatusEntity.valueOf(expectedStatus.name()))
+                .executeUpdate();
+        if (updated == 0) {
+            return false;
+        }
+        order.clearPendingEvents();
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public List<Order> saveAll(List<Order> orders) {
+        // persist() instead of save(): assigned ids would make Spring Data merge, i.e. SELECT each row first
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            entityManager.persist(toNewEntity(order));
+            order.clearPendingEvents();
+
+            // Flush a full JDBC batch at a time and keep the persistence context small
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return orders;
     }
 
     @Override
     public Optional<Order> findById(OrderId orderId) {
-        OrderEntity entity = springDataOrderRepository.findByIdWithItems(orderId.toString());
+        OrderEntity entity = springDataOrderRepository.findByIdWithItems(orderId.getValue());
         return entity != null ? Optional.of(toDomain(entity)) : Optional.empty();
     }
 
-    private OrderEntity toEntity(Order order, CustomerEntity customerEntity) {
+    @Override
+    public List<OrderSummary> search(OrderSearch search) {
+        // Only the filters in use are rendered, so the optimizer can pick
+        // idx_orders_customer_created or idx_orders_status_created for the seek
+        StringBuilder jpql = new StringBuilder("select new " + OrderSummaryRow.class.getName()
+                + "(o.id, o.customer.id, o.status, o.totalAmount, o.currency, o.createdAt, o.confirmedAt)"
+                + " from OrderEntity o where 1 = 1");
+        if (search.customerId() != null) {
+            jpql.append(" and o.customer.id = :customerId");
+        }
+        if (search.status() != null) {
+            jpql.append(" and o.status = :status");
+        }
+        if (search.createdAfter() != null) {
+            jpql.append(" and o.createdAt > :createdAfter");
+        }
+        if (search.after() != null) {
+            jpql.append(" and (o.createdAt < :cursorCreatedAt"
+                    + " or (o.createdAt = :cursorCreatedAt and o.id < :cursorId))");
+        }
+        jpql.append(" order by o.createdAt desc, o.id desc");
+
+        TypedQuery<OrderSummaryRow> query = entityManager.createQuery(jpql.toString(), OrderSummaryRow.class);
+        if (search.customerId() != null) {
+            query.setParameter("customerId", search.customerId().getValue());
+        }
+        if (search.status() != null) {
+            query.setParameter("status", OrderStatusEntity.valueOf(search.status().name()));
+        }
+        if (search.createdAfter() != null) {
+            query.setParameter("createdAfter", search.createdAfter());
+        }
+        if (search.after() != null) {
+            query.setParameter("cursorCreatedAt", search.after().createdAt());
+            query.setParameter("cursorId", search.after().orderId().getValue());
+        }
+        return query.setMaxResults(search.limit())
+                .getResultStream()
+                .map(OrderRepositoryAdapter::toSummary)
+                .toList();
+    }
+
+    @Override
+    public void streamSummaries(LocalDateTime createdFrom, LocalDateTime createdTo, Consumer<OrderSummary> consumer) {
+        org.hibernate.query.Query<OrderSummaryRow> query = entityManager.unwrap(Session.class).createQuery(
+                "select new " + OrderSummaryRow.class.getName()
+                        + "(o.id, o.customer.id, o.status, o.totalAmount, o.currency, o.createdAt, o.confirmedAt)"
+                        + " from OrderEntity o where o.createdAt >= :createdFrom and o.createdAt < :createdTo"
+                        + " order by o.createdAt, o.id", OrderSummaryRow.class);
+        query.setParameter("createdFrom", createdFrom);
+        query.setParameter("createdTo", createdTo);
+        // The driver pulls fetchSize rows per round trip instead of the whole result set
+        query.setFetchSize(exportFetchSize);
+        query.setReadOnly(true);
+        query.setCacheMode(CacheMode.IGNORE);
+
+        try (ScrollableResults<OrderSummaryRow> rows = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            int count = 0;
+            while (rows.next()) {
+                consumer.accept(toSummary(rows.get()));
+                // Projections are not managed, but clear anyway so nothing loaded along the way piles up
+                if (++count % exportFetchSize == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    private static OrderSummary toSummary(OrderSummaryRow row) {
+        return new OrderSummary(
+                new OrderId(row.id()),
+                new CustomerId(row.customerId()),
+                OrderStatus.valueOf(row.status().name()),
+                new Money(row.totalAmount(), row.currency()),
+                row.createdAt(),
+                row.confirmedAt()
+        );
+    }
+
+    private OrderEntity toNewEntity(Order order) {
+        // The caller has already validated the customer; a reference proxy avoids reloading it
+        CustomerEntity customerEntity = entityManager.getReference(
+                CustomerEntity.class, order.getCustomerId().getValue());
+
+        OrderEntity entity = toEntity(order, customerEntity);
+        entity.setItems(order.getItems().stream()
+                .map(item -> toItemEntity(item, entity))
+                .collect(Collectors.toCollection(ArrayList::new)));
+        return entity;
+    }
+
+    static OrderEntity toEntity(Order order, CustomerEntity customerEntity) {
         OrderEntity entity = new OrderEntity();
-        entity.setId(order.getId().toString());
+        entity.setId(order.getId().getValue());
         entity.setCustomer(customerEntity);
         entity.setStatus(OrderStatusEntity.valueOf(order.getStatus().name()));
         entity.setTotalAmount(order.getTotalAmount().getAmount());
@@ -54,7 +209,7 @@ public class OrderRepositoryAdapter implements OrderRepository {
         return entity;
     }
 
-    private OrderItemEntity toItemEntity(OrderItem item, OrderEntity orderEntity) {
+    static OrderItemEntity toItemEntity(OrderItem item, OrderEntity orderEntity) {
         return new OrderItemEntity(
                 orderEntity,
                 item.getProductName(),
@@ -64,32 +219,23 @@ public class OrderRepositoryAdapter implements OrderRepository {
         );
     }
 
-    private Order toDomain(OrderEntity entity) {
-        List<OrderItem> items = entity.getItems() != null ? 
+    static Order toDomain(OrderEntity entity) {
+        List<OrderItem> items = entity.getItems() != null ?
                 entity.getItems().stream()
-                        .map(this::toItemDomain)
-                        .toList() : new ArrayList<>();
+                        .map(OrderRepositoryAdapter::toItemDomain)
+                        .toList() : List.of();
 
-        Order order = new Order(
-                OrderId.fromString(entity.getId()),
-                CustomerId.fromString(entity.getCustomer().getId()),
-                items
-        );
-
-        // Set status by simulating the state transitions
-        if (entity.getStatus() == OrderStatusEntity.CONFIRMED) {
-            order.confirm();
-        } else if (entity.getStatus() == OrderStatusEntity.PAID) {
-            order.confirm();
-            order.markAsPaid();
-        } else if (entity.getStatus() == OrderStatusEntity.CANCELLED) {
-            order.cancel();
-        }
-
-        return order;
+        return Order.restore(new OrderSnapshot(
+                new OrderId(entity.getId()),
+                new CustomerId(entity.getCustomer().getId()),
+                items,
+                OrderStatus.valueOf(entity.getStatus().name()),
+                entity.getCreatedAt(),
+                entity.getConfirmedAt()
+        ));
     }
 
-    private OrderItem toItemDomain(OrderItemEntity entity) {
+    private static OrderItem toItemDomain(OrderItemEntity entity) {
         Money unitPrice = new Money(entity.getUnitPrice(), entity.getCurrency());
         return new OrderItem(entity.getProductName(), unitPrice, entity.getQuantity());
     }
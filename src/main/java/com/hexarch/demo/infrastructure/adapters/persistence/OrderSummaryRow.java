@@ -0,0 +1,9 @@
+package com.hexarch.demo.infrastructure.adapters.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// JPQL constructor-expression target: the list query reads these columns only, never entities or items
+public record OrderSummaryRow(UUID id, UUID customerId, OrderStatusEntity status, BigDecimal totalAmount,
+                              String currency, LocalDateTime createdAt, LocalDateTime confirmedAt) {}
\ No newline at end of file
@@ -1,8 +1,16 @@
 package com.hexarch.demo.infrastructure.adapters.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
 @Repository
-public interface SpringDataCustomerRepository extends JpaRepository<CustomerEntity, String> {
+public interface SpringDataCustomerRepository extends JpaRepository<CustomerEntity, UUID> {
+
+    @Query("SELECT c.id FROM CustomerEntity c WHERE c.id IN :ids")
+    List<UUID> findExistingIds(Collection<UUID> ids);
 }
\ No newline at end of file
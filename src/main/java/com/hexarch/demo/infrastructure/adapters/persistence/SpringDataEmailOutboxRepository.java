@@ -0,0 +1,16 @@
+package com.hexarch.demo.infrastructure.adapters.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SpringDataEmailOutboxRepository extends JpaRepository<EmailOutboxEntity, String> {
+
+    @Query("SELECT e FROM EmailOutboxEntity e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt")
+    List<EmailOutboxEntity> findDue(EmailOutboxStatusEntity status, LocalDateTime now, Pageable pageable);
+}
\ No newline at end of file
@@ -4,9 +4,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.UUID;
+
 @Repository
-public interface SpringDataOrderRepository extends JpaRepository<OrderEntity, String> {
+public interface SpringDataOrderRepository extends JpaRepository<OrderEntity, UUID> {
     
     @Query("SELECT o FROM OrderEntity o LEFT JOIN FETCH o.items WHERE o.id = :id")
-    OrderEntity findByIdWithItems(String id);
+    OrderEntity findByIdWithItems(UUID id);
 }
\ No newline at end of file
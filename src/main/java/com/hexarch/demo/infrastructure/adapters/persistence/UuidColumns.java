@@ -0,0 +1,12 @@
+package com.hexarch.demo.infrastructure.adapters.persistence;
+
+// Ids are stored as BINARY(16) instead of a 36-character string, through @JdbcTypeCode(SqlTypes.BINARY).
+// Hibernate writes the bytes big-endian, so the byte order of a time-ordered id matches its creation order
+// and inserts append to the primary key index.
+final class UuidColumns {
+    // Shared by every id column so primary and foreign keys get the same type
+    static final String DEFINITION = "binary(16)";
+
+    private UuidColumns() {
+    }
+}
\ No newline at end of file
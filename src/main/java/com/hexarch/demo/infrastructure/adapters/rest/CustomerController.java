@@ -1,18 +1,35 @@
 package com.hexarch.demo.infrastructure.adapters.rest;
 
 import com.hexarch.demo.application.usecases.CreateCustomerUseCase;
+import com.hexarch.demo.application.usecases.GetCustomerOrderSummaryUseCase;
+import com.hexarch.demo.application.usecases.RebuildCustomerOrderStatsUseCase;
 import com.hexarch.demo.domain.model.Customer;
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.model.OrderStatus;
+import com.hexarch.demo.domain.ports.CustomerOrderStatsRepository.CustomerOrderStats;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 @RestController
 @RequestMapping("/api/customers")
 public class CustomerController {
     private final CreateCustomerUseCase createCustomerUseCase;
+    private final GetCustomerOrderSummaryUseCase getCustomerOrderSummaryUseCase;
+    private final Optional<RebuildCustomerOrderStatsUseCase> rebuildCustomerOrderStatsUseCase;
 
-    public CustomerController(CreateCustomerUseCase createCustomerUseCase) {
+    public CustomerController(CreateCustomerUseCase createCustomerUseCase,
+                              GetCustomerOrderSummaryUseCase getCustomerOrderSummaryUseCase,
+                              Optional<RebuildCustomerOrderStatsUseCase> rebuildCustomerOrderStatsUseCase) {
         this.createCustomerUseCase = createCustomerUseCase;
+        this.getCustomerOrderSummaryUseCase = getCustomerOrderSummaryUseCase;
+        this.rebuildCustomerOrderStatsUseCase = rebuildCustomerOrderStatsUseCase;
     }
 
     @PostMapping
@@ -35,7 +52,47 @@ public class CustomerController {
         }
     }
 
+    @GetMapping("/{customerId}/summary")
+    public ResponseEntity<CustomerSummaryResponse> getSummary(@PathVariable String customerId) {
+        try {
+            CustomerOrderStats stats = getCustomerOrderSummaryUseCase.execute(
+                    new GetCustomerOrderSummaryUseCase.GetCustomerOrderSummaryQuery(CustomerId.fromString(customerId)));
+
+            Map<String, Long> ordersByStatus = new LinkedHashMap<>();
+            long totalOrders = 0;
+            for (Map.Entry<OrderStatus, Long> entry : stats.ordersByStatus().entrySet()) {
+                ordersByStatus.put(entry.getKey().name(), entry.getValue());
+                totalOrders += entry.getValue();
+            }
+            List<AmountResponse> paidTotals = stats.paidTotals().stream()
+                    .map(total -> new AmountResponse(total.getAmount().doubleValue(), total.getCurrency()))
+                    .toList();
+
+            return ResponseEntity.ok(new CustomerSummaryResponse(
+                    customerId, totalOrders, ordersByStatus, paidTotals, stats.lastOrderAt()));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PostMapping("/summaries/rebuild")
+    public ResponseEntity<RebuildSummariesResponse> rebuildSummaries() {
+        // Absent under the memory and event-store profiles
+        if (rebuildCustomerOrderStatsUseCase.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+        RebuildCustomerOrderStatsUseCase.RebuildResult result = rebuildCustomerOrderStatsUseCase.get().execute();
+        return ResponseEntity.ok(new RebuildSummariesResponse(result.customers()));
+    }
+
     public record CreateCustomerRequest(String name, String email) {}
     
     public record CustomerResponse(String id, String name, String email) {}
+    
+    public record CustomerSummaryResponse(String customerId, long totalOrders, Map<String, Long> ordersByStatus,
+                                         List<AmountResponse> paidTotals, LocalDateTime lastOrderAt) {}
+    
+    public record AmountResponse(double amount, String currency) {}
+    
+    public record RebuildSummariesResponse(int customers) {}
 }
\ No newline at end of file
@@ -1,15 +1,26 @@
 package com.hexarch.demo.infrastructure.adapters.rest;
 
+import com.hexarch.demo.application.usecases.AsyncConfirmOrderUseCase;
 import com.hexarch.demo.application.usecases.ConfirmOrderUseCase;
 import com.hexarch.demo.application.usecases.CreateOrderUseCase;
+import com.hexarch.demo.application.usecases.CreateOrdersBatchUseCase;
 import com.hexarch.demo.application.usecases.GetOrderUseCase;
+import com.hexarch.demo.application.usecases.ListOrdersUseCase;
 import com.hexarch.demo.domain.model.*;
+import com.hexarch.demo.domain.ports.OrderRepository;
+import com.hexarch.demo.domain.ports.PaymentOutcomeUnknownException;
+import com.hexarch.demo.domain.ports.PaymentUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/orders")
@@ -17,13 +28,31 @@ public class OrderController {
     private final CreateOrderUseCase createOrderUseCase;
     private final ConfirmOrderUseCase confirmOrderUseCase;
     private final GetOrderUseCase getOrderUseCase;
+    private final AsyncConfirmOrderUseCase asyncConfirmOrderUseCase;
+    private final CreateOrdersBatchUseCase createOrdersBatchUseCase;
+    private final ListOrdersUseCase listOrdersUseCase;
+    private final boolean asyncConfirm;
+    private final int maxBatchSize;
+    private final int maxPageSize;
 
     public OrderController(CreateOrderUseCase createOrderUseCase,
                           ConfirmOrderUseCase confirmOrderUseCase,
-                          GetOrderUseCase getOrderUseCase) {
+                          GetOrderUseCase getOrderUseCase,
+                          AsyncConfirmOrderUseCase asyncConfirmOrderUseCase,
+                          CreateOrdersBatchUseCase createOrdersBatchUseCase,
+                          ListOrdersUseCase listOrdersUseCase,
+                          @Value("${orders.confirm.async.enabled:false}") boolean asyncConfirm,
+                          @Value("${orders.batch.max-size:1000}") int maxBatchSize,
+                          @Value("${orders.list.max-limit:100}") int maxPageSize) {
         this.createOrderUseCase = createOrderUseCase;
         this.confirmOrderUseCase = confirmOrderUseCase;
         this.getOrderUseCase = getOrderUseCase;
+        this.asyncConfirmOrderUseCase = asyncConfirmOrderUseCase;
+        this.createOrdersBatchUseCase = createOrdersBatchUseCase;
+        this.listOrdersUseCase = listOrdersUseCase;
+        this.asyncConfirm = asyncConfirm;
+        this.maxBatchSize = maxBatchSize;
+        this.maxPageSize = maxPageSize;
     }
 
     @PostMapping
@@ -51,16 +80,103 @@ public class OrderController {
         }
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateOrdersResponse> createOrders(@RequestBody CreateOrdersBatchRequest request) {
+        try {
+            if (request.orders() == null || request.orders().isEmpty() || request.orders().size() > maxBatchSize) {
+                return ResponseEntity.badRequest().build();
+            }
+
+            List<CreateOrderUseCase.CreateOrderCommand> commands = request.orders().stream()
+                    .map(this::toCreateOrderCommand)
+                    .toList();
+
+            List<CreateOrdersBatchUseCase.BatchOrderResult> results = createOrdersBatchUseCase.execute(
+                    new CreateOrdersBatchUseCase.CreateOrdersBatchCommand(commands));
+
+            List<BatchOrderResultResponse> resultResponses = results.stream()
+                    .map(result -> result.isCreated()
+                            ? new BatchOrderResultResponse(result.index(), "CREATED", toOrderResponse(result.order()), null)
+                            : new BatchOrderResultResponse(result.index(), "FAILED", null, result.error()))
+                    .toList();
+            int created = (int) results.stream().filter(CreateOrdersBatchUseCase.BatchOrderResult::isCreated).count();
+
+            return ResponseEntity.ok(new BatchCreateOrdersResponse(created, results.size() - created, resultResponses));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping("/{orderId}/confirm")
-    public ResponseEntity<OrderResponse> confirmOrder(@PathVariable String orderId) {
+    public ResponseEntity<?> confirmOrder(@PathVariable String orderId) {
         try {
             ConfirmOrderUseCase.ConfirmOrderCommand command = 
                     new ConfirmOrderUseCase.ConfirmOrderCommand(OrderId.fromString(orderId));
 
+            if (asyncConfirm) {
+                AsyncConfirmOrderUseCase.ConfirmationStatus status = asyncConfirmOrderUseCase.submit(command);
+                String statusUrl = confirmationUrl(orderId);
+                return ResponseEntity.accepted()
+                        .header(HttpHeaders.LOCATION, statusUrl)
+                        .body(toConfirmationResponse(status));
+            }
+
             Order order = confirmOrderUseCase.execute(command);
             OrderResponse response = toOrderResponse(order);
 
             return ResponseEntity.ok(response);
+        } catch (RejectedExecutionException | PaymentUnavailableException e) {
+            // Rejected before the provider was reached: nothing was charged and the client may retry
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        } catch (PaymentOutcomeUnknownException e) {
+            // The provider may have charged; the idempotency key is kept so a retry does not pay again
+            return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build();
+        } catch (IllegalStateException e) {
+            // Already confirmed, or another request confirmed it first
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{orderId}/confirmation")
+    public ResponseEntity<ConfirmationResponse> getConfirmation(@PathVariable String orderId) {
+        try {
+            return asyncConfirmOrderUseCase.getStatus(OrderId.fromString(orderId))
+                    .map(status -> ResponseEntity.ok(toConfirmationResponse(status)))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<OrderPageResponse> listOrders(@RequestParam(required = false) String customerId,
+                                                        @RequestParam(required = false) String status,
+                                                        @RequestParam(required = false) String createdAfter,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = "20") int limit) {
+        try {
+            if (limit <= 0 || limit > maxPageSize) {
+                return ResponseEntity.badRequest().build();
+            }
+
+            ListOrdersUseCase.ListOrdersQuery query = new ListOrdersUseCase.ListOrdersQuery(
+                    customerId != null ? CustomerId.fromString(customerId) : null,
+                    status != null ? OrderStatus.valueOf(status) : null,
+                    createdAfter != null ? LocalDateTime.parse(createdAfter) : null,
+                    cursor != null ? decodeCursor(cursor) : null,
+                    limit);
+
+            ListOrdersUseCase.OrderPage page = listOrdersUseCase.execute(query);
+            List<OrderSummaryResponse> orders = page.orders().stream()
+                    .map(OrderController::toOrderSummaryResponse)
+                    .toList();
+
+            return ResponseEntity.ok(new OrderPageResponse(orders,
+                    page.nextCursor() != null ? encodeCursor(page.nextCursor()) : null));
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
@@ -81,7 +197,7 @@ public class OrderController {
         }
     }
 
-    private OrderResponse toOrderResponse(Order order) {
+    static OrderResponse toOrderResponse(Order order) {
         List<OrderItemResponse> itemResponses = order.getItems().stream()
                 .map(item -> new OrderItemResponse(
                         item.getProductName(),
@@ -103,14 +219,93 @@ public class OrderController {
         );
     }
 
+    static OrderSummaryResponse toOrderSummaryResponse(OrderRepository.OrderSummary summary) {
+        return new OrderSummaryResponse(
+                summary.orderId().toString(),
+                summary.customerId().toString(),
+                summary.status().name(),
+                summary.totalAmount().getAmount().doubleValue(),
+                summary.totalAmount().getCurrency(),
+                summary.createdAt(),
+                summary.confirmedAt()
+        );
+    }
+
+    // Cursors are opaque to clients: base64url of "createdAt|orderId" of the last order on the page
+    private static String encodeCursor(OrderRepository.OrderCursor cursor) {
+        String position = cursor.createdAt() + "|" + cursor.orderId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static OrderRepository.OrderCursor decodeCursor(String cursor) {
+        String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = position.indexOf('|');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return new OrderRepository.OrderCursor(
+                LocalDateTime.parse(position.substring(0, separator)),
+                OrderId.fromString(position.substring(separator + 1)));
+    }
+
+    private CreateOrderUseCase.CreateOrderCommand toCreateOrderCommand(CreateOrderRequest request) {
+        List<CreateOrderUseCase.CreateOrderItemCommand> itemCommands = request.items() == null ? null :
+                request.items().stream()
+                        .map(item -> new CreateOrderUseCase.CreateOrderItemCommand(
+                                item.productName(),
+                                item.unitPrice(),
+                                item.currency(),
+                                item.quantity()))
+                        .toList();
+
+        // An unparseable customer id is reported per order by the batch use case
+        CustomerId customerId;
+        try {
+            customerId = CustomerId.fromString(request.customerId());
+        } catch (RuntimeException e) {
+            customerId = null;
+        }
+        return new CreateOrderUseCase.CreateOrderCommand(customerId, itemCommands);
+    }
+
+    private ConfirmationResponse toConfirmationResponse(AsyncConfirmOrderUseCase.ConfirmationStatus status) {
+        String orderId = status.orderId().toString();
+        return new ConfirmationResponse(
+                orderId,
+                status.state().name(),
+                status.message(),
+                confirmationUrl(orderId),
+                "/api/orders/" + orderId
+        );
+    }
+
+    private static String confirmationUrl(String orderId) {
+        return "/api/orders/" + orderId + "/confirmation";
+    }
+
     public record CreateOrderRequest(String customerId, List<CreateOrderItemRequest> items) {}
     
     public record CreateOrderItemRequest(String productName, double unitPrice, String currency, int quantity) {}
     
+    public record CreateOrdersBatchRequest(List<CreateOrderRequest> orders) {}
+    
+    public record BatchCreateOrdersResponse(int created, int failed, List<BatchOrderResultResponse> results) {}
+    
+    public record BatchOrderResultResponse(int index, String status, OrderResponse order, String error) {}
+    
     public record OrderResponse(String id, String customerId, String status, double totalAmount, 
                                String currency, LocalDateTime createdAt, LocalDateTime confirmedAt,
                                List<OrderItemResponse> items) {}
     
+    // List pages carry no items; fetch /api/orders/{id} for the full order
+    public record OrderSummaryResponse(String id, String customerId, String status, double totalAmount,
+                                      String currency, LocalDateTime createdAt, LocalDateTime confirmedAt) {}
+    
+    public record OrderPageResponse(List<OrderSummaryResponse> orders, String nextCursor) {}
+    
     public record OrderItemResponse(String productName, double unitPrice, String currency, 
                                    int quantity, double totalPrice) {}
+    
+    public record ConfirmationResponse(String orderId, String state, String message,
+                                      String statusUrl, String orderUrl) {}
 }
\ No newline at end of file
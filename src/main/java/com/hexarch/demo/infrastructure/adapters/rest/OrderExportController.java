@@ -0,0 +1,111 @@
+package com.hexarch.demo.infrastructure.adapters.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hexarch.demo.application.usecases.ExportOrdersUseCase;
+import com.hexarch.demo.domain.ports.OrderRepository.OrderSummary;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+@RestController
+@RequestMapping("/api/orders/export")
+public class OrderExportController {
+    private static final String CSV_HEADER = "id,customerId,status,totalAmount,currency,createdAt,confirmedAt";
+
+    private final ExportOrdersUseCase exportOrdersUseCase;
+    private final ObjectMapper objectMapper;
+
+    public OrderExportController(ExportOrdersUseCase exportOrdersUseCase, ObjectMapper objectMapper) {
+        this.exportOrdersUseCase = exportOrdersUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    // Rows go to the response as they come off the database cursor; nothing is collected in memory
+    @GetMapping
+    public void exportOrders(@RequestParam String from,
+                             @RequestParam String to,
+                             @RequestParam(defaultValue = "ndjson") String format,
+                             HttpServletResponse response) throws IOException {
+        ExportOrdersUseCase.ExportOrdersQuery query;
+        try {
+            query = new ExportOrdersUseCase.ExportOrdersQuery(LocalDateTime.parse(from), LocalDateTime.parse(to));
+            if (!query.createdFrom().isBefore(query.createdTo()) || !(format.equals("ndjson") || format.equals("csv"))) {
+                throw new IllegalArgumentException("Invalid export request");
+            }
+        } catch (Exception e) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+
+        boolean csv = format.equals("csv");
+        response.setContentType(csv ? "text/csv" : "application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders." + format + "\"");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        if (csv) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            exportOrdersUseCase.execute(query, unchecked(summary -> writeCsvLine(writer, summary)));
+        } else {
+            // Let the buffered writer decide when to flush, and keep the response open when the sequence closes
+            try (SequenceWriter lines = objectMapper.writer()
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .withRootValueSeparator("\n")
+                    .writeValues(writer)) {
+                exportOrdersUseCase.execute(query,
+                        unchecked(summary -> lines.write(OrderController.toOrderSummaryResponse(summary))));
+            }
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvLine(Writer writer, OrderSummary summary) throws IOException {
+        writer.write(summary.orderId().toString());
+        writer.write(',');
+        writer.write(summary.customerId().toString());
+        writer.write(',');
+        writer.write(summary.status().name());
+        writer.write(',');
+        writer.write(summary.totalAmount().getAmount().toPlainString());
+        writer.write(',');
+        writer.write(summary.totalAmount().getCurrency());
+        writer.write(',');
+        writer.write(summary.createdAt().toString());
+        writer.write(',');
+        if (summary.confirmedAt() != null) {
+            writer.write(summary.confirmedAt().toString());
+        }
+        writer.write('\n');
+    }
+
+    private static Consumer<OrderSummary> unchecked(IoConsumer consumer) {
+        return summary -> {
+            try {
+                consumer.accept(summary);
+            } catch (IOException e) {
+                // Typically the client went away; abort the cursor and roll back the read transaction
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface IoConsumer {
+        void accept(OrderSummary summary) throws IOException;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.hexarch.demo.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class AsyncConfirmConfiguration {
+
+    @Bean(name = "confirmExecutor", destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolExecutor platformConfirmExecutor(
+            @Value("${orders.confirm.async.workers:8}") int workers,
+            @Value("${orders.confirm.async.queue-capacity:256}") int queueCapacity) {
+        // Fixed workers and a bounded queue; AbortPolicy turns a full queue into back-pressure
+        return new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreads("confirm-worker-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(name = "confirmExecutor", destroyMethod = "close")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public BoundedVirtualThreadExecutor virtualConfirmExecutor(
+            @Value("${orders.confirm.async.virtual.max-in-flight:${orders.confirm.async.queue-capacity:256}}") int maxInFlight,
+            @Value("${orders.confirm.async.virtual.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}")
+            int maxConcurrent) {
+        // Blocking payment calls park the virtual thread instead of a pool worker. Each confirm needs a pooled
+        // connection for its claim and its final update, so running more than the pool holds only adds
+        // contention for connections and CPU without adding throughput.
+        return new BoundedVirtualThreadExecutor("confirm-worker-", maxInFlight, maxConcurrent);
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.hexarch.demo.infrastructure.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+// One virtual thread per task, capped by a permit count so a full pipeline still pushes back. Of the
+// accepted tasks at most maxConcurrent run at once; the rest park in arrival order, like a pool's queue.
+public class BoundedVirtualThreadExecutor implements Executor, AutoCloseable {
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    private final Semaphore running;
+    private final int maxInFlight;
+
+    public BoundedVirtualThreadExecutor(String namePrefix, int maxInFlight, int maxConcurrent) {
+        this.maxInFlight = maxInFlight;
+        this.delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix, 1).factory());
+        this.permits = new Semaphore(maxInFlight);
+        this.running = new Semaphore(maxConcurrent, true);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("All " + maxInFlight + " slots are busy");
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    running.acquireUninterruptibly();
+                    try {
+                        task.run();
+                    } finally {
+                        running.release();
+                    }
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int inFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.hexarch.demo.infrastructure.config;
+
+import com.hexarch.demo.domain.ports.PaymentService;
+import com.hexarch.demo.infrastructure.adapters.payment.MockPaymentServiceAdapter;
+import com.hexarch.demo.infrastructure.adapters.payment.PaymentBatchCoalescer;
+import com.hexarch.demo.infrastructure.adapters.payment.ResilientPaymentService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+@Configuration
+public class PaymentResilienceConfiguration {
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    public PaymentService paymentService(
+            MockPaymentServiceAdapter provider,
+            @Value("${orders.payment.timeout:2s}") Duration timeout,
+            @Value("${orders.payment.bulkhead.max-concurrent:32}") int maxConcurrentCalls,
+            @Value("${orders.payment.bulkhead.max-wait:50ms}") Duration maxWait,
+            @Value("${orders.payment.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${orders.payment.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${orders.payment.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${orders.payment.circuit-breaker.open-duration:10s}") Duration openDuration,
+            @Value("${orders.payment.circuit-breaker.half-open-calls:3}") int halfOpenCalls,
+            @Value("${orders.payment.hedge.enabled:false}") boolean hedgeEnabled,
+            @Value("${orders.payment.hedge.delay:300ms}") Duration hedgeDelay,
+            @Value("${orders.payment.batch.enabled:false}") boolean batchEnabled,
+            @Value("${orders.payment.batch.max-size:50}") int batchMaxSize,
+            @Value("${orders.payment.batch.max-wait:5ms}") Duration batchMaxWait) {
+        ResilientPaymentService resilient = new ResilientPaymentService(provider, new ResilientPaymentService.Settings(
+                timeout, maxConcurrentCalls, maxWait,
+                windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenCalls,
+                hedgeEnabled ? hedgeDelay : null));
+
+        // The coalescer sits outside the guard, so each batch is one guarded provider call. A caller waits
+        // for the window, the bulkhead and the call timeout, with a second to spare for the hand-offs.
+        Duration batchResultTimeout = batchMaxWait.plus(maxWait).plus(timeout).plusSeconds(1);
+        return batchEnabled
+                ? new PaymentBatchCoalescer(resilient, batchMaxSize, batchMaxWait, batchResultTimeout)
+                : resilient;
+    }
+}
\ No newline at end of file
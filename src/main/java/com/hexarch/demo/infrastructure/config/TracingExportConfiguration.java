@@ -0,0 +1,29 @@
+package com.hexarch.demo.infrastructure.config;
+
+import com.hexarch.demo.infrastructure.observability.FileSpanExporter;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+// Span exporters picked up by Spring Boot's OpenTelemetry tracer when management.tracing.enabled=true
+@Configuration
+@ConditionalOnProperty(name = "management.tracing.enabled", havingValue = "true")
+public class TracingExportConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "orders.tracing.exporter", havingValue = "log", matchIfMissing = true)
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "orders.tracing.exporter", havingValue = "file")
+    public SpanExporter fileSpanExporter(@Value("${orders.tracing.file:spans.jsonl}") Path file) {
+        return new FileSpanExporter(file);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.hexarch.demo.infrastructure.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// Observes every port call and use-case execute. Each observation becomes a timer tagged with the
+// component, method and error, an in-flight long task timer (<name>.active) and, when tracing is on, a span.
+// Outermost advice, so use-case timings include the transaction commit. A decorator such as the order cache
+// implements the port as well, so its call into the adapter it wraps is observed too; port timers carry a
+// layer tag, "port" for the call the application made and "delegate" for the nested one, so each call
+// is counted once per layer.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PortObservationAspect {
+    private static final String PORT = "orders.port";
+
+    private final ObservationRegistry observationRegistry;
+
+    public PortObservationAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("execution(* com.hexarch.demo.domain.ports.*.*(..))")
+    public Object observePort(ProceedingJoinPoint joinPoint) throws Throwable {
+        Observation parent = observationRegistry.getCurrentObservation();
+        boolean nested = parent != null && PORT.equals(parent.getContext().getName());
+        return observe(observation(PORT, joinPoint).lowCardinalityKeyValue("layer", nested ? "delegate" : "port"),
+                joinPoint);
+    }
+
+    @Around("execution(* com.hexarch.demo.application.usecases.*.execute(..))")
+    public Object observeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(observation("orders.usecase", joinPoint), joinPoint);
+    }
+
+    private Observation observation(String name, ProceedingJoinPoint joinPoint) {
+        String component = joinPoint.getTarget().getClass().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        return Observation.createNotStarted(name, observationRegistry)
+                .contextualName(component + "." + method)
+                .lowCardinalityKeyValue("component", component)
+                .lowCardinalityKeyValue("method", method);
+    }
+
+    private Object observe(Observation observation, ProceedingJoinPoint joinPoint) throws Throwable {
+        observation.start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.hexarch.demo.application.usecases;
+
+import com.hexarch.demo.domain.model.*;
+import com.hexarch.demo.domain.ports.CustomerOrderStatsRepository;
+import com.hexarch.demo.domain.ports.CustomerRepository;
+import com.hexarch.demo.domain.ports.EmailOutbox;
+import com.hexarch.demo.domain.ports.OrderRepository;
+import com.hexarch.demo.domain.ports.PaymentOutcomeUnknownException;
+import com.hexarch.demo.domain.ports.PaymentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AsyncConfirmOrderUseCaseTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private EmailOutbox emailOutbox;
+
+    @Mock
+    private CustomerOrderStatsRepository customerOrderStatsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private Customer customer;
+    private OrderId orderId;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        customer = new Customer(CustomerId.generate(), "John Doe", "john@example.com");
+        orderId = OrderId.generate();
+        when(orderRepository.findById(orderId)).thenAnswer(invocation -> Optional.of(newOrder()));
+        when(customerRepository.findById(customer.getId())).thenReturn(Optional.of(customer));
+        when(orderRepository.compareAndSetStatus(any(), any())).thenReturn(true);
+    }
+
+    @Test
+    void shouldPayAndNotifyOnWorker() {
+        // Given
+        AsyncConfirmOrderUseCase useCase = useCase(Runnable::run);
+        when(paymentService.processPayment(eq("PAY-" + orderId), any(Money.class))).thenReturn(true);
+
+        // When
+        useCase.submit(new ConfirmOrderUseCase.ConfirmOrderCommand(orderId));
+
+        // Then
+        assertEquals(AsyncConfirmOrderUseCase.ConfirmationState.PAID,
+                useCase.getStatus(orderId).orElseThrow().state());
+        InOrder transitions = inOrder(orderRepository, paymentService);
+        transitions.verify(orderRepository).compareAndSetStatus(any(), eq(OrderStatus.CREATED));
+        transitions.verify(paymentService).processPayment(anyString(), any(Money.class));
+        transitions.verify(orderRepository).compareAndSetStatus(argThat(Order::isPaid), eq(OrderStatus.CONFIRMED));
+        verify(customerOrderStatsRepository).recordStatusChange(argThat(Order::isPaid), eq(OrderStatus.CREATED));
+        verify(emailOutbox).enqueue(argThat(email ->
+                email.customerEmail().equals("john@example.com") && email.orderId().equals(orderId.toString())));
+    }
+
+    @Test
+    void shouldHandClaimBackWhenPaymentFails() {
+        // Given
+        AsyncConfirmOrderUseCase useCase = useCase(Runnable::run);
+        when(paymentService.processPayment(anyString(), any(Money.class))).thenReturn(false);
+
+        // When
+        useCase.submit(new ConfirmOrderUseCase.ConfirmOrderCommand(orderId));
+
+        // Then
+        assertEquals(AsyncConfirmOrderUseCase.ConfirmationState.FAILED,
+                useCase.getStatus(orderId).orElseThrow().state());
+        verify(orderRepository).compareAndSetStatus(any(), eq(OrderStatus.CREATED));
+        verify(orderRepository).compareAndSetStatus(argThat(order -> order.getStatus() == OrderStatus.CREATED
+                && order.getConfirmedAt() == null), eq(OrderStatus.CONFIRMED));
+        verifyNoInteractions(emailOutbox);
+    }
+
+    @Test
+    void shouldKeepClaimWhenPaymentOutcomeIsUnknown() {
+        // Given
+        AsyncConfirmOrderUseCase useCase = useCase(Runnable::run);
+        when(paymentService.processPayment(anyString(), any(Money.class)))
+                .thenThrow(new PaymentOutcomeUnknownException("Payment timed out"));
+
+        // When
+        useCase.submit(new ConfirmOrderUseCase.ConfirmOrderCommand(orderId));
+
+        // Then: the order is left CONFIRMED, as the customer may have been charged
+        assertEquals(AsyncConfirmOrderUseCase.ConfirmationState.FAILED,
+                useCase.getStatus(orderId).orElseThrow().state());
+        verify(orderRepository).compareAndSetStatus(any(), eq(OrderStatus.CREATED));
+        verify(orderRepository, never()).compareAndSetStatus(any(), eq(OrderStatus.CONFIRMED));
+        verifyNoInteractions(emailOutbox);
+    }
+
+    @Test
+    void shouldNotPayWhenClaimIsLost() {
+        // Given: another confirm moved the order out of CREATED first
+        AsyncConfirmOrderUseCase useCase = useCase(Runnable::run);
+        when(orderRepository.compareAndSetStatus(any(), eq(OrderStatus.CREATED))).thenReturn(false);
+
+        // When
+        useCase.submit(new ConfirmOrderUseCase.ConfirmOrderCommand(orderId));
+
+        // Then
+        assertEquals(AsyncConfirmOrderUseCase.ConfirmationState.FAILED,
+                useCase.getStatus(orderId).orElseThrow().state());
+        verifyNoInteractions(paymentService, emailOutbox);
+    }
+
+    @Test
+    void shouldRejectDuplicateSubmissionWhilePending() {
+        // Given
+        AsyncConfirmOrderUseCase useCase = useCase(task -> {});
+        useCase.submit(new ConfirmOrderUseCase.ConfirmOrderCommand(orderId));
+
+        // When & Then
+        assertThrows(IllegalStateException.class,
+                () -> useCase.submit(new ConfirmOrderUseCase.ConfirmOrderCommand(orderId)));
+    }
+
+    @Test
+    void shouldReleaseSlotWhenWorkersAreSaturated() {
+        // Given
+        AsyncConfirmOrderUseCase useCase = useCase(task -> {
+            throw new RejectedExecutionException("queue full");
+        });
+
+        // When & Then
+        assertThrows(RejectedExecutionException.class,
+                () -> useCase.submit(new ConfirmOrderUseCase.ConfirmOrderCommand(orderId)));
+        assertTrue(useCase.getStatus(orderId).isEmpty());
+    }
+
+    private AsyncConfirmOrderUseCase useCase(Executor executor) {
+        return new AsyncConfirmOrderUseCase(orderRepository, customerRepository, paymentService,
+                emailOutbox, customerOrderStatsRepository, transactionManager, executor);
+    }
+
+    private Order newOrder() {
+        OrderItem item = new OrderItem("Product", Money.of(10.0, "USD"), 1);
+        return new Order(orderId, customer.getId(), List.of(item));
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.hexarch.demo.application.usecases;
 
 import com.hexarch.demo.domain.model.*;
+import com.hexarch.demo.domain.ports.CustomerOrderStatsRepository;
 import com.hexarch.demo.domain.ports.CustomerRepository;
 import com.hexarch.demo.domain.ports.OrderRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +14,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class CreateOrderUseCaseTest {
@@ -22,13 +24,16 @@ class CreateOrderUseCaseTest {
     
     @Mock
     private CustomerRepository customerRepository;
+
+    @Mock
+    private CustomerOrderStatsRepository customerOrderStatsRepository;
     
     private CreateOrderUseCase createOrderUseCase;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        createOrderUseCase = new CreateOrderUseCase(orderRepository, customerRepository);
+        createOrderUseCase = new CreateOrderUseCase(orderRepository, customerRepository, customerOrderStatsRepository);
     }
 
     @Test
@@ -55,6 +60,7 @@ class CreateOrderUseCaseTest {
         assertEquals(OrderStatus.CREATED, result.getStatus());
         assertEquals(1, result.getItems().size());
         assertEquals(Money.of(20.0, "USD"), result.getTotalAmount());
+        verify(customerOrderStatsRepository).recordCreated(List.of(result));
     }
 
     @Test
@@ -0,0 +1,99 @@
+package com.hexarch.demo.application.usecases;
+
+import com.hexarch.demo.domain.model.*;
+import com.hexarch.demo.domain.ports.CustomerOrderStatsRepository;
+import com.hexarch.demo.domain.ports.CustomerRepository;
+import com.hexarch.demo.domain.ports.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CreateOrdersBatchUseCaseTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private CustomerOrderStatsRepository customerOrderStatsRepository;
+
+    private CreateOrdersBatchUseCase createOrdersBatchUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        createOrdersBatchUseCase = new CreateOrdersBatchUseCase(orderRepository, customerRepository, customerOrderStatsRepository);
+    }
+
+    @Test
+    void shouldCreateValidOrdersAndReportFailuresPerOrder() {
+        // Given
+        CustomerId existing = CustomerId.generate();
+        CustomerId missing = CustomerId.generate();
+        CreateOrderUseCase.CreateOrderItemCommand item =
+                new CreateOrderUseCase.CreateOrderItemCommand("Product 1", 10.0, "USD", 2);
+        CreateOrderUseCase.CreateOrderItemCommand invalidItem =
+                new CreateOrderUseCase.CreateOrderItemCommand("Product 2", 10.0, "USD", 0);
+
+        List<CreateOrderUseCase.CreateOrderCommand> commands = List.of(
+                new CreateOrderUseCase.CreateOrderCommand(existing, List.of(item)),
+                new CreateOrderUseCase.CreateOrderCommand(missing, List.of(item)),
+                new CreateOrderUseCase.CreateOrderCommand(existing, List.of(invalidItem)),
+                new CreateOrderUseCase.CreateOrderCommand(existing, List.of(item, item)),
+                new CreateOrderUseCase.CreateOrderCommand(existing, null),
+                new CreateOrderUseCase.CreateOrderCommand(existing, List.of(
+                        new CreateOrderUseCase.CreateOrderItemCommand(null, 10.0, "USD", 1))));
+
+        when(customerRepository.findExistingIds(Set.of(existing, missing))).thenReturn(Set.of(existing));
+
+        // When
+        List<CreateOrdersBatchUseCase.BatchOrderResult> results = createOrdersBatchUseCase.execute(
+                new CreateOrdersBatchUseCase.CreateOrdersBatchCommand(commands));
+
+        // Then
+        assertEquals(6, results.size());
+        assertTrue(results.get(0).isCreated());
+        assertEquals("Customer not found: " + missing, results.get(1).error());
+        assertEquals("Quantity must be positive", results.get(2).error());
+        assertEquals(Money.of(40.0, "USD"), results.get(3).order().getTotalAmount());
+        assertEquals("Order items are required", results.get(4).error());
+        assertEquals("Order items need a product name and a currency", results.get(5).error());
+        verify(customerRepository, times(1)).findExistingIds(anyCollection());
+        verify(orderRepository).saveAll(argThat(orders -> orders.size() == 2));
+        verify(customerOrderStatsRepository).recordCreated(argThat(orders -> orders.size() == 2));
+    }
+
+    @Test
+    void shouldReportOverflowingOrderWithoutFailingTheBatch() {
+        // Given: one item whose total overflows, and two items whose sum does
+        CustomerId customerId = CustomerId.generate();
+        CreateOrderUseCase.CreateOrderItemCommand huge =
+                new CreateOrderUseCase.CreateOrderItemCommand("Huge", 5.0e16, "USD", 1);
+        List<CreateOrderUseCase.CreateOrderCommand> commands = List.of(
+                new CreateOrderUseCase.CreateOrderCommand(customerId, List.of(
+                        new CreateOrderUseCase.CreateOrderItemCommand("Many", 5.0e16, "USD", 1000))),
+                new CreateOrderUseCase.CreateOrderCommand(customerId, List.of(huge, huge)),
+                new CreateOrderUseCase.CreateOrderCommand(customerId, List.of(huge)));
+        when(customerRepository.findExistingIds(Set.of(customerId))).thenReturn(Set.of(customerId));
+
+        // When
+        List<CreateOrdersBatchUseCase.BatchOrderResult> results = createOrdersBatchUseCase.execute(
+                new CreateOrdersBatchUseCase.CreateOrdersBatchCommand(commands));
+
+        // Then
+        assertTrue(results.get(0).error().startsWith("Amount overflows"));
+        assertTrue(results.get(1).error().startsWith("Amount overflows"));
+        assertTrue(results.get(2).isCreated());
+        verify(orderRepository).saveAll(argThat(orders -> orders.size() == 1));
+    }
+}
\ No newline at end of file
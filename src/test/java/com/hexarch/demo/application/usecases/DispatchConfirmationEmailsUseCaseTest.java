@@ -0,0 +1,74 @@
+package com.hexarch.demo.application.usecases;
+
+import com.hexarch.demo.domain.ports.EmailOutbox;
+import com.hexarch.demo.domain.ports.EmailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DispatchConfirmationEmailsUseCaseTest {
+
+    @Mock
+    private EmailOutbox emailOutbox;
+
+    private final List<String> deliveredEmails = new ArrayList<>();
+
+    private final EmailService inMemoryEmailService = (customerEmail, orderId, orderDetails) -> {
+        if (customerEmail.startsWith("bounce")) {
+            throw new IllegalStateException("Mailbox unavailable");
+        }
+        deliveredEmails.add(orderId);
+    };
+
+    private DispatchConfirmationEmailsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        useCase = new DispatchConfirmationEmailsUseCase(emailOutbox, inMemoryEmailService);
+    }
+
+    @Test
+    void shouldMarkDeliveredAndFailedEmailsSeparately() {
+        // Given
+        when(emailOutbox.fetchDue(10)).thenReturn(List.of(
+                new EmailService.OrderConfirmationEmail("john@example.com", "order-1", "details"),
+                new EmailService.OrderConfirmationEmail("bounce@example.com", "order-2", "details"),
+                new EmailService.OrderConfirmationEmail("jane@example.com", "order-3", "details")));
+
+        // When
+        DispatchConfirmationEmailsUseCase.DispatchResult result =
+                useCase.execute(new DispatchConfirmationEmailsUseCase.DispatchCommand(10));
+
+        // Then
+        assertEquals(2, result.sent());
+        assertEquals(1, result.failed());
+        assertEquals(List.of("order-1", "order-3"), deliveredEmails);
+        verify(emailOutbox).markSent(Set.of("order-1", "order-3"));
+        verify(emailOutbox).markFailed(List.of("order-2"));
+    }
+
+    @Test
+    void shouldDoNothingWhenOutboxIsEmpty() {
+        // Given
+        when(emailOutbox.fetchDue(anyInt())).thenReturn(List.of());
+
+        // When
+        DispatchConfirmationEmailsUseCase.DispatchResult result =
+                useCase.execute(new DispatchConfirmationEmailsUseCase.DispatchCommand(10));
+
+        // Then
+        assertEquals(0, result.sent());
+        verify(emailOutbox, never()).markSent(any());
+        verify(emailOutbox, never()).markFailed(any());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.hexarch.demo.application.usecases;
+
+import com.hexarch.demo.domain.model.*;
+import com.hexarch.demo.domain.ports.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ListOrdersUseCaseTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private ListOrdersUseCase listOrdersUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        listOrdersUseCase = new ListOrdersUseCase(orderRepository);
+    }
+
+    @Test
+    void shouldFetchOneExtraRowAndReturnCursorOfLastOrderOnPage() {
+        // Given
+        CustomerId customerId = CustomerId.generate();
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderRepository.OrderSummary> rows = List.of(
+                summary(customerId, now), summary(customerId, now.minusMinutes(1)), summary(customerId, now.minusMinutes(2)));
+        when(orderRepository.search(any())).thenReturn(rows);
+
+        // When
+        ListOrdersUseCase.OrderPage page = listOrdersUseCase.execute(
+                new ListOrdersUseCase.ListOrdersQuery(customerId, OrderStatus.CREATED, null, null, 2));
+
+        // Then
+        ArgumentCaptor<OrderRepository.OrderSearch> search = ArgumentCaptor.forClass(OrderRepository.OrderSearch.class);
+        verify(orderRepository).search(search.capture());
+        assertEquals(3, search.getValue().limit());
+        assertEquals(customerId, search.getValue().customerId());
+
+        assertEquals(2, page.orders().size());
+        assertEquals(rows.get(1).orderId(), page.nextCursor().orderId());
+        assertEquals(rows.get(1).createdAt(), page.nextCursor().createdAt());
+    }
+
+    @Test
+    void shouldReturnNoCursorOnLastPage() {
+        // Given
+        CustomerId customerId = CustomerId.generate();
+        when(orderRepository.search(any())).thenReturn(List.of(summary(customerId, LocalDateTime.now())));
+
+        // When
+        ListOrdersUseCase.OrderPage page = listOrdersUseCase.execute(
+                new ListOrdersUseCase.ListOrdersQuery(customerId, null, null, null, 2));
+
+        // Then
+        assertEquals(1, page.orders().size());
+        assertNull(page.nextCursor());
+    }
+
+    private static OrderRepository.OrderSummary summary(CustomerId customerId, LocalDateTime createdAt) {
+        return new OrderRepository.OrderSummary(OrderId.generate(), customerId, OrderStatus.CREATED,
+                Money.of(10.0, "USD"), createdAt, null);
+    }
+}
\ No newline at end of file
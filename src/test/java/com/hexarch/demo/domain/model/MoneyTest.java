@@ -0,0 +1,46 @@
+package com.hexarch.demo.domain.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+class MoneyTest {
+
+    @Test
+    void shouldKeepAmountsAsMinorUnits() {
+        // Given
+        Money money = Money.of(19.99, "USD");
+
+        // When
+        Money total = money.multiply(3).add(Money.of(0.03, "USD"));
+
+        // Then
+        assertEquals(6000L, total.getMinorUnits());
+        assertEquals(new BigDecimal("60.00"), total.getAmount());
+        assertEquals(CurrencyCode.USD, total.getCurrencyCode());
+        assertEquals(new Money(new BigDecimal("60"), "USD"), total);
+    }
+
+    @Test
+    void shouldRejectAmountsWithMoreThanTwoDecimals() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new Money(new BigDecimal("1.005"), "USD"));
+    }
+
+    @Test
+    void shouldRejectUnsupportedCurrency() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> Money.of(1.0, "XYZ"));
+    }
+
+    @Test
+    void shouldFailOnOverflowInsteadOfWrapping() {
+        // Given
+        Money large = Money.ofMinor(Long.MAX_VALUE, CurrencyCode.EUR);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> large.add(Money.ofMinor(1, CurrencyCode.EUR)));
+        assertThrows(IllegalArgumentException.class, () -> large.multiply(2));
+    }
+}
\ No newline at end of file
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 class OrderTest {
@@ -101,4 +102,104 @@ class OrderTest {
         assertThrows(IllegalArgumentException.class, 
                 () -> new Order(orderId, customerId, List.of()));
     }
+
+    @Test
+    void shouldRecordLifecycleChangesAsPendingEvents() {
+        // Given
+        OrderItem item = new OrderItem("Product", Money.of(10.0, "USD"), 1);
+        Order order = new Order(OrderId.generate(), CustomerId.generate(), List.of(item));
+
+        // When
+        order.confirm();
+        order.markAsPaid();
+
+        // Then
+        assertTrue(order.isNew());
+        assertEquals(3, order.getPendingEvents().size());
+        assertInstanceOf(OrderEvent.OrderCreated.class, order.getPendingEvents().get(0));
+        assertInstanceOf(OrderEvent.OrderConfirmed.class, order.getPendingEvents().get(1));
+        assertInstanceOf(OrderEvent.OrderPaid.class, order.getPendingEvents().get(2));
+        assertEquals(order.getConfirmedAt(), order.getPendingEvents().get(1).occurredAt());
+    }
+
+    @Test
+    void shouldRevertConfirmationBackToCreated() {
+        // Given
+        OrderItem item = new OrderItem("Product", Money.of(10.0, "USD"), 1);
+        Order order = new Order(OrderId.generate(), CustomerId.generate(), List.of(item));
+        order.confirm();
+        order.clearPendingEvents();
+
+        // When
+        order.revertConfirmation();
+
+        // Then
+        assertEquals(OrderStatus.CREATED, order.getStatus());
+        assertNull(order.getConfirmedAt());
+        assertInstanceOf(OrderEvent.OrderConfirmationReverted.class, order.getPendingEvents().get(0));
+        assertThrows(IllegalStateException.class, order::revertConfirmation);
+        order.confirm();
+        assertEquals(OrderStatus.CONFIRMED, order.getStatus());
+    }
+
+    @Test
+    void shouldTrackOnlyChangesAfterClearingPendingEvents() {
+        // Given
+        OrderItem item = new OrderItem("Product", Money.of(10.0, "USD"), 1);
+        Order order = new Order(OrderId.generate(), CustomerId.generate(), List.of(item));
+        order.clearPendingEvents();
+
+        // When
+        order.cancel();
+
+        // Then
+        assertFalse(order.isNew());
+        assertEquals(1, order.getPendingEvents().size());
+        assertInstanceOf(OrderEvent.OrderCancelled.class, order.getPendingEvents().get(0));
+    }
+
+    @Test
+    void shouldRestoreOrderFromSnapshotWithoutReplayingTransitions() {
+        // Given
+        OrderItem item = new OrderItem("Product", Money.of(10.0, "USD"), 1);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+        LocalDateTime confirmedAt = LocalDateTime.of(2024, 1, 1, 10, 5);
+        OrderSnapshot snapshot = new OrderSnapshot(OrderId.generate(), CustomerId.generate(), List.of(item),
+                OrderStatus.PAID, createdAt, confirmedAt);
+
+        // When
+        Order order = Order.restore(snapshot);
+
+        // Then
+        assertEquals(OrderStatus.PAID, order.getStatus());
+        assertEquals(createdAt, order.getCreatedAt());
+        assertEquals(confirmedAt, order.getConfirmedAt());
+        assertTrue(order.getPendingEvents().isEmpty());
+        assertEquals(snapshot, order.snapshot());
+    }
+
+    @Test
+    void shouldTotalOrderInTheItemsCurrency() {
+        // Given
+        OrderItem item1 = new OrderItem("Product 1", Money.of(10.0, "EUR"), 3);
+        OrderItem item2 = new OrderItem("Product 2", Money.of(2.5, "EUR"), 2);
+
+        // When
+        Order order = new Order(OrderId.generate(), CustomerId.generate(), List.of(item1, item2));
+
+        // Then
+        assertEquals(Money.of(35.0, "EUR"), order.getTotalAmount());
+        assertEquals(Money.of(30.0, "EUR"), item1.getTotalPrice());
+    }
+
+    @Test
+    void shouldRejectItemsInDifferentCurrencies() {
+        // Given
+        OrderItem usd = new OrderItem("Product 1", Money.of(10.0, "USD"), 1);
+        OrderItem eur = new OrderItem("Product 2", Money.of(10.0, "EUR"), 1);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> new Order(OrderId.generate(), CustomerId.generate(), List.of(usd, eur)));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.hexarch.demo.domain.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.UUID;
+
+class TimeOrderedUuidTest {
+
+    @Test
+    void shouldGenerateVersion7IdsWithTheCurrentTimestamp() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID id = OrderId.generate().getValue();
+
+        // Then
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        long millis = id.getMostSignificantBits() >>> 16;
+        assertTrue(millis >= before && millis <= System.currentTimeMillis() + 1, () -> "timestamp " + millis);
+    }
+
+    @Test
+    void shouldNeverGoBackwardsWithinAThread() {
+        // Given: far more ids than one millisecond's sequence range
+        UUID[] ids = new UUID[50_000];
+
+        // When
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = TimeOrderedUuid.next();
+        }
+
+        // Then: unsigned byte order, which is how BINARY(16) columns compare
+        for (int i = 1; i < ids.length; i++) {
+            assertTrue(Arrays.compareUnsigned(bytes(ids[i - 1]), bytes(ids[i])) < 0, "ids out of order at " + i);
+        }
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.hexarch.demo.infrastructure.adapters.cache;
+
+import com.hexarch.demo.domain.model.*;
+import com.hexarch.demo.infrastructure.adapters.persistence.OrderRepositoryAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingOrderRepositoryAdapterTest {
+
+    private OrderRepositoryAdapter delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingOrderRepositoryAdapter repository;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(OrderRepositoryAdapter.class);
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingOrderRepositoryAdapter(delegate, meterRegistry,
+                false, Duration.ofSeconds(5), 100, Duration.ofMinutes(1));
+        order = new Order(OrderId.generate(), CustomerId.generate(),
+                List.of(new OrderItem("Product", Money.of(10.0, "USD"), 1)));
+        when(delegate.findById(order.getId())).thenReturn(Optional.of(order));
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        // When
+        repository.findById(order.getId());
+        repository.findById(order.getId());
+        repository.findById(order.getId());
+
+        // Then
+        verify(delegate, times(1)).findById(order.getId());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "orders").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "orders").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void shouldNotLeakCallerMutationsIntoCache() {
+        // Given
+        Order first = repository.findById(order.getId()).orElseThrow();
+
+        // When
+        first.confirm();
+
+        // Then
+        assertEquals(OrderStatus.CREATED, repository.findById(order.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void shouldInvalidateOnSave() {
+        // Given
+        repository.findById(order.getId());
+        Order confirmed = new Order(order.getId(), order.getCustomerId(), order.getItems());
+        confirmed.confirm();
+        when(delegate.findById(order.getId())).thenReturn(Optional.of(confirmed));
+
+        // When
+        repository.save(confirmed);
+
+        // Then
+        assertEquals(OrderStatus.CONFIRMED, repository.findById(order.getId()).orElseThrow().getStatus());
+        verify(delegate, times(2)).findById(order.getId());
+    }
+
+    @Test
+    void shouldNotCacheReplicaReadsOfRecentWrites() {
+        // Given: misses load from a replica that may not have the write yet
+        CachingOrderRepositoryAdapter replicaBacked = new CachingOrderRepositoryAdapter(delegate, meterRegistry,
+                true, Duration.ofMinutes(1), 100, Duration.ofMinutes(1));
+        replicaBacked.save(order);
+
+        // When
+        replicaBacked.findById(order.getId());
+        replicaBacked.findById(order.getId());
+
+        // Then: each read goes to the database until the lag bound has passed
+        verify(delegate, times(2)).findById(order.getId());
+    }
+}
\ No newline at end of file
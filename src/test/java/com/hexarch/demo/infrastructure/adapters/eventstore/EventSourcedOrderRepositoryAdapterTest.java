@@ -0,0 +1,127 @@
+package com.hexarch.demo.infrastructure.adapters.eventstore;
+
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.model.Order;
+import com.hexarch.demo.domain.model.OrderId;
+import com.hexarch.demo.domain.model.OrderItem;
+import com.hexarch.demo.domain.model.OrderStatus;
+import com.hexarch.demo.domain.ports.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSourcedOrderRepositoryAdapterTest {
+    private static final long SEGMENT_BYTES = 64 * 1024 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private final CustomerId customerId = CustomerId.generate();
+
+    @Test
+    void shouldRecoverFromIndexSnapshotAndLogTailAfterCrash() throws Exception {
+        // Given: an index snapshot, then more events that only reached the log
+        EventSourcedOrderRepositoryAdapter orders = new EventSourcedOrderRepositoryAdapter(directory, SEGMENT_BYTES, 2);
+        Order paid = orders.save(newOrder());
+        orders.snapshotIndex();
+        paid.confirm();
+        assertTrue(orders.compareAndSetStatus(paid, OrderStatus.CREATED));
+        paid.markAsPaid();
+        assertTrue(orders.compareAndSetStatus(paid, OrderStatus.CONFIRMED));
+        Order created = orders.save(newOrder());
+
+        // When: a second adapter opens the same directory without the first one being closed
+        EventSourcedOrderRepositoryAdapter recovered = new EventSourcedOrderRepositoryAdapter(directory, SEGMENT_BYTES, 2);
+
+        // Then
+        Order recoveredPaid = recovered.findById(paid.getId()).orElseThrow();
+        assertEquals(OrderStatus.PAID, recoveredPaid.getStatus());
+        assertEquals(paid.getConfirmedAt(), recoveredPaid.getConfirmedAt());
+        assertEquals(Money.of(25.0, "USD"), recovered.findById(created.getId()).orElseThrow().getTotalAmount());
+        assertFalse(recovered.compareAndSetStatus(recoveredPaid, OrderStatus.CONFIRMED));
+        List<OrderRepository.OrderSummary> page = recovered.search(
+                new OrderRepository.OrderSearch(customerId, null, null, null, 10));
+        assertEquals(List.of(created.getId(), paid.getId()),
+                page.stream().map(OrderRepository.OrderSummary::orderId).toList());
+        assertEquals(OrderStatus.PAID, page.get(1).status());
+        recovered.close();
+    }
+
+    @Test
+    void shouldRollSegmentsUnderConcurrentWriters() throws Exception {
+        // Given: segments small enough that a few group commits fill one
+        EventSourcedOrderRepositoryAdapter orders = new EventSourcedOrderRepositoryAdapter(directory, 1024, 2);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<OrderId>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            futures.add(executor.submit(() -> {
+                Order order = orders.save(newOrder());
+                order.confirm();
+                assertTrue(orders.compareAndSetStatus(order, OrderStatus.CREATED));
+                return order.getId();
+            }));
+        }
+        List<OrderId> orderIds = new ArrayList<>();
+        for (Future<OrderId> future : futures) {
+            orderIds.add(future.get());
+        }
+        executor.shutdown();
+        orders.close();
+
+        // Then
+        assertTrue(segments().size() > 1);
+        EventSourcedOrderRepositoryAdapter reopened = new EventSourcedOrderRepositoryAdapter(directory, 1024, 2);
+        for (OrderId orderId : orderIds) {
+            assertEquals(OrderStatus.CONFIRMED, reopened.findById(orderId).orElseThrow().getStatus());
+        }
+        reopened.close();
+    }
+
+    @Test
+    void shouldDropTornLogTailOnRecovery() throws Exception {
+        // Given
+        EventSourcedOrderRepositoryAdapter orders = new EventSourcedOrderRepositoryAdapter(directory, SEGMENT_BYTES, 2);
+        OrderId orderId = orders.save(newOrder()).getId();
+        Path segment = segments().get(0);
+        // A record header promising more bytes than were written before the crash
+        Files.write(segment, new byte[]{0, 0, 1, 0, 7, 7}, StandardOpenOption.APPEND);
+        long tornSize = Files.size(segment);
+
+        // When
+        EventSourcedOrderRepositoryAdapter recovered = new EventSourcedOrderRepositoryAdapter(directory, SEGMENT_BYTES, 2);
+
+        // Then
+        assertTrue(recovered.findById(orderId).isPresent());
+        assertEquals(tornSize - 6, Files.size(segment));
+        recovered.close();
+    }
+
+    private List<Path> segments() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("segment-"))
+                    .sorted(Comparator.naturalOrder())
+                    .toList();
+        }
+    }
+
+    private Order newOrder() {
+        return new Order(OrderId.generate(), customerId, List.of(
+                new OrderItem("Product A", Money.of(10.0, "USD"), 2),
+                new OrderItem("Product B", Money.of(5.0, "USD"), 1)));
+    }
+}
\ No newline at end of file
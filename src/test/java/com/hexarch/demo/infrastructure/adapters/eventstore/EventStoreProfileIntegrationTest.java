@@ -0,0 +1,114 @@
+package com.hexarch.demo.infrastructure.adapters.eventstore;
+
+import com.hexarch.demo.application.usecases.ConfirmOrderUseCase;
+import com.hexarch.demo.application.usecases.CreateCustomerUseCase;
+import com.hexarch.demo.application.usecases.CreateOrderUseCase;
+import com.hexarch.demo.application.usecases.GetOrderUseCase;
+import com.hexarch.demo.application.usecases.ListOrdersUseCase;
+import com.hexarch.demo.domain.model.Customer;
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.model.Order;
+import com.hexarch.demo.domain.model.OrderStatus;
+import com.hexarch.demo.domain.ports.OrderRepository;
+import com.hexarch.demo.domain.ports.PaymentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+// The use cases against the event-sourced order adapter, with every other port still on the test database
+@SpringBootTest(properties = "orders.email.outbox.dispatcher.enabled=false")
+@ActiveProfiles({"test", "event-store"})
+class EventStoreProfileIntegrationTest {
+
+    @TempDir
+    static Path storeDirectory;
+
+    @DynamicPropertySource
+    static void storeProperties(DynamicPropertyRegistry registry) {
+        registry.add("orders.event-store.directory", storeDirectory::toString);
+    }
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CreateCustomerUseCase createCustomerUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private ConfirmOrderUseCase confirmOrderUseCase;
+
+    @Autowired
+    private GetOrderUseCase getOrderUseCase;
+
+    @Autowired
+    private ListOrdersUseCase listOrdersUseCase;
+
+    @MockBean
+    private PaymentService paymentService;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        when(paymentService.processPayment(anyString(), any(Money.class))).thenReturn(true);
+        customer = createCustomerUseCase.execute(new CreateCustomerUseCase.CreateCustomerCommand(
+                "Event Store Customer", "event-store-" + System.nanoTime() + "@example.com"));
+    }
+
+    @Test
+    void shouldServeOrdersFromTheEventLog() {
+        // Given
+        assertEquals(EventSourcedOrderRepositoryAdapter.class, AopUtils.getTargetClass(orderRepository));
+        Order first = createOrder();
+        Order second = createOrder();
+
+        // When
+        confirmOrderUseCase.execute(new ConfirmOrderUseCase.ConfirmOrderCommand(first.getId()));
+        ListOrdersUseCase.OrderPage page = listOrdersUseCase.execute(
+                new ListOrdersUseCase.ListOrdersQuery(customer.getId(), null, null, null, 10));
+
+        // Then
+        assertEquals(OrderStatus.PAID, getOrderUseCase.execute(new GetOrderUseCase.GetOrderQuery(first.getId())).getStatus());
+        assertEquals(List.of(second.getId(), first.getId()),
+                page.orders().stream().map(OrderRepository.OrderSummary::orderId).toList());
+    }
+
+    @Test
+    void shouldUndoConfirmationWhenPaymentFails() {
+        // Given
+        Order order = createOrder();
+        when(paymentService.processPayment(eq("PAY-" + order.getId()), any(Money.class))).thenReturn(false);
+
+        // When
+        assertThrows(RuntimeException.class,
+                () -> confirmOrderUseCase.execute(new ConfirmOrderUseCase.ConfirmOrderCommand(order.getId())));
+
+        // Then: the claim on CREATED was compensated when the transaction rolled back
+        assertEquals(OrderStatus.CREATED,
+                getOrderUseCase.execute(new GetOrderUseCase.GetOrderQuery(order.getId())).getStatus());
+    }
+
+    private Order createOrder() {
+        return createOrderUseCase.execute(new CreateOrderUseCase.CreateOrderCommand(customer.getId(), List.of(
+                new CreateOrderUseCase.CreateOrderItemCommand("Product A", 10.0, "USD", 1))));
+    }
+}
\ No newline at end of file
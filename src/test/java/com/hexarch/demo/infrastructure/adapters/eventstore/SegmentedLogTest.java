@@ -0,0 +1,61 @@
+package com.hexarch.demo.infrastructure.adapters.eventstore;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentedLogTest {
+    private static final long SEGMENT_BYTES = 64 * 1024 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldAnswerEveryAppendThatRacesWithClose() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            // Given: writers appending in a loop
+            SegmentedLog eventLog = new SegmentedLog(directory.resolve("round-" + round), SEGMENT_BYTES);
+            ExecutorService writers = Executors.newFixedThreadPool(8);
+            CountDownLatch started = new CountDownLatch(8);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(writers.submit(() -> {
+                    started.countDown();
+                    int appended = 0;
+                    try {
+                        while (true) {
+                            eventLog.append(List.of(new byte[]{1, 2, 3}));
+                            appended++;
+                        }
+                    } catch (IllegalStateException e) {
+                        return appended;
+                    }
+                }));
+            }
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // When
+            eventLog.close();
+
+            // Then: every writer is told the log closed instead of blocking on an append nobody will write
+            try {
+                for (Future<Integer> result : results) {
+                    assertDoesNotThrow(() -> result.get(5, TimeUnit.SECONDS));
+                }
+            } finally {
+                writers.shutdownNow();
+            }
+            assertThrows(IllegalStateException.class, () -> eventLog.append(List.of(new byte[]{1})));
+        }
+    }
+}
\ No newline at end of file
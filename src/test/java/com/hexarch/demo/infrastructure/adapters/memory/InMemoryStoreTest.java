@@ -0,0 +1,101 @@
+package com.hexarch.demo.infrastructure.adapters.memory;
+
+import com.hexarch.demo.domain.model.Customer;
+import com.hexarch.demo.domain.model.CustomerId;
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.model.Order;
+import com.hexarch.demo.domain.model.OrderId;
+import com.hexarch.demo.domain.model.OrderItem;
+import com.hexarch.demo.domain.model.OrderStatus;
+import com.hexarch.demo.domain.ports.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRecoverFromSnapshotAndLogAfterCrash() throws Exception {
+        // Given: a snapshot, then more changes that only reached the log
+        InMemoryStore store = new InMemoryStore(directory, false);
+        InMemoryCustomerRepositoryAdapter customers = new InMemoryCustomerRepositoryAdapter(store);
+        InMemoryOrderRepositoryAdapter orders = new InMemoryOrderRepositoryAdapter(store);
+        Customer customer = customers.save(new Customer(CustomerId.generate(), "Ada", "ada@example.com"));
+        Order paid = orders.save(newOrder(customer));
+        store.snapshot();
+        paid.confirm();
+        assertTrue(orders.compareAndSetStatus(paid, OrderStatus.CREATED));
+        paid.markAsPaid();
+        assertTrue(orders.compareAndSetStatus(paid, OrderStatus.CONFIRMED));
+        Order created = orders.save(newOrder(customer));
+
+        // When: a second store opens the same directory without the first one being closed
+        InMemoryStore recovered = new InMemoryStore(directory, false);
+
+        // Then
+        InMemoryOrderRepositoryAdapter recoveredOrders = new InMemoryOrderRepositoryAdapter(recovered);
+        assertEquals(OrderStatus.PAID, recoveredOrders.findById(paid.getId()).orElseThrow().getStatus());
+        assertEquals(paid.getConfirmedAt(), recoveredOrders.findById(paid.getId()).orElseThrow().getConfirmedAt());
+        assertEquals(Money.of(25.0, "USD"), recoveredOrders.findById(created.getId()).orElseThrow().getTotalAmount());
+        assertEquals(customer.getEmail(),
+                new InMemoryCustomerRepositoryAdapter(recovered).findById(customer.getId()).orElseThrow().getEmail());
+        List<OrderRepository.OrderSummary> page = recoveredOrders.search(
+                new OrderRepository.OrderSearch(customer.getId(), null, null, null, 10));
+        assertEquals(List.of(created.getId(), paid.getId()),
+                page.stream().map(OrderRepository.OrderSummary::orderId).toList());
+        recovered.close();
+    }
+
+    @Test
+    void shouldDropTornLogTailOnRecovery() throws Exception {
+        // Given
+        InMemoryStore store = new InMemoryStore(directory, false);
+        InMemoryCustomerRepositoryAdapter customers = new InMemoryCustomerRepositoryAdapter(store);
+        Customer customer = customers.save(new Customer(CustomerId.generate(), "Ada", "ada@example.com"));
+        OrderId orderId = new InMemoryOrderRepositoryAdapter(store).save(newOrder(customer)).getId();
+        Path log;
+        try (Stream<Path> files = Files.list(directory)) {
+            log = files.filter(file -> file.getFileName().toString().endsWith(".log")).findFirst().orElseThrow();
+        }
+        // A record header promising more bytes than were written before the crash
+        Files.write(log, new byte[]{0, 0, 1, 0, 7, 7}, StandardOpenOption.APPEND);
+        long tornSize = Files.size(log);
+
+        // When
+        InMemoryStore recovered = new InMemoryStore(directory, false);
+
+        // Then
+        assertTrue(new InMemoryOrderRepositoryAdapter(recovered).findById(orderId).isPresent());
+        assertEquals(tornSize - 6, Files.size(log));
+        recovered.close();
+    }
+
+    @Test
+    void shouldRejectSecondCustomerWithSameEmail() throws Exception {
+        // Given
+        InMemoryStore store = new InMemoryStore(directory, false);
+        InMemoryCustomerRepositoryAdapter customers = new InMemoryCustomerRepositoryAdapter(store);
+        customers.save(new Customer(CustomerId.generate(), "Ada", "ada@example.com"));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> customers.save(new Customer(CustomerId.generate(), "Other Ada", "ada@example.com")));
+        store.close();
+    }
+
+    private static Order newOrder(Customer customer) {
+        return new Order(OrderId.generate(), customer.getId(), List.of(
+                new OrderItem("Product A", Money.of(10.0, "USD"), 2),
+                new OrderItem("Product B", Money.of(5.0, "USD"), 1)));
+    }
+}
\ No newline at end of file
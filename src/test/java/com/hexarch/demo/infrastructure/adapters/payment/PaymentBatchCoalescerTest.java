@@ -0,0 +1,152 @@
+package com.hexarch.demo.infrastructure.adapters.payment;
+
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.ports.PaymentOutcomeUnknownException;
+import com.hexarch.demo.domain.ports.PaymentService;
+import com.hexarch.demo.domain.ports.PaymentUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaymentBatchCoalescerTest {
+
+    private static final Money AMOUNT = Money.of(10.0, "USD");
+    private static final Duration RESULT_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+    private PaymentBatchCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        callers.shutdownNow();
+        if (coalescer != null) {
+            coalescer.close();
+        }
+    }
+
+    @Test
+    void shouldCoalesceConcurrentPaymentsAndFanOutResults() throws Exception {
+        // Given
+        RecordingProvider provider = new RecordingProvider();
+        coalescer = new PaymentBatchCoalescer(provider, 10, Duration.ofMillis(200), RESULT_TIMEOUT);
+
+        // When
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String reference = "PAY-" + i + (i % 2 == 0 ? "-ok" : "-declined");
+            results.add(callers.submit(() -> coalescer.processPayment(reference, AMOUNT)));
+        }
+
+        // Then: one provider call, and each caller sees its own outcome
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i % 2 == 0, results.get(i).get(2, TimeUnit.SECONDS));
+        }
+        assertEquals(List.of(4), provider.batchSizes);
+    }
+
+    @Test
+    void shouldSendBatchOnceMaxSizeIsReached() throws Exception {
+        // Given: a window far longer than the test, so only the size limit can release the batches
+        RecordingProvider provider = new RecordingProvider();
+        coalescer = new PaymentBatchCoalescer(provider, 2, Duration.ofSeconds(30), Duration.ofSeconds(60));
+
+        // When
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String reference = "PAY-" + i + "-ok";
+            results.add(callers.submit(() -> coalescer.processPayment(reference, AMOUNT)));
+        }
+
+        // Then
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get(2, TimeUnit.SECONDS));
+        }
+        assertEquals(List.of(2, 2), provider.batchSizes);
+    }
+
+    @Test
+    void shouldFailEveryPaymentInFailedBatch() throws Exception {
+        // Given
+        PaymentService provider = new PaymentService() {
+            @Override
+            public boolean processPayment(String paymentReference, Money amount) {
+                throw new PaymentUnavailableException("Provider down");
+            }
+
+            @Override
+            public List<Boolean> processPayments(List<PaymentRequest> payments) {
+                throw new PaymentUnavailableException("Provider down");
+            }
+        };
+        coalescer = new PaymentBatchCoalescer(provider, 10, Duration.ofMillis(100), RESULT_TIMEOUT);
+
+        // When
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String reference = "PAY-" + i;
+            results.add(callers.submit(() -> coalescer.processPayment(reference, AMOUNT)));
+        }
+
+        // Then
+        for (Future<Boolean> result : results) {
+            ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(2, TimeUnit.SECONDS));
+            assertInstanceOf(PaymentUnavailableException.class, error.getCause());
+        }
+    }
+
+    @Test
+    void shouldStopWaitingForHungBatchAfterResultTimeout() throws Exception {
+        // Given: a provider that never answers
+        CountDownLatch release = new CountDownLatch(1);
+        coalescer = new PaymentBatchCoalescer((reference, amount) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }, 10, Duration.ofMillis(10), Duration.ofMillis(300));
+
+        // When
+        long start = System.nanoTime();
+        assertThrows(PaymentOutcomeUnknownException.class, () -> coalescer.processPayment("PAY-1", AMOUNT));
+
+        // Then
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2_000);
+        release.countDown();
+    }
+
+    @Test
+    void shouldRejectPaymentsAfterClose() throws Exception {
+        // Given
+        coalescer = new PaymentBatchCoalescer(new RecordingProvider(), 10, Duration.ofMillis(10), RESULT_TIMEOUT);
+
+        // When
+        coalescer.close();
+
+        // Then
+        assertThrows(PaymentUnavailableException.class, () -> coalescer.processPayment("PAY-1", AMOUNT));
+    }
+
+    private static class RecordingProvider implements PaymentService {
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public boolean processPayment(String paymentReference, Money amount) {
+            batchSizes.add(1);
+            return paymentReference.endsWith("ok");
+        }
+
+        @Override
+        public List<Boolean> processPayments(List<PaymentRequest> payments) {
+            batchSizes.add(payments.size());
+            return payments.stream().map(payment -> payment.paymentReference().endsWith("ok")).toList();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.hexarch.demo.infrastructure.adapters.payment;
+
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.ports.PaymentOutcomeUnknownException;
+import com.hexarch.demo.domain.ports.PaymentService;
+import com.hexarch.demo.domain.ports.PaymentUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResilientPaymentServiceTest {
+
+    private static final Money AMOUNT = Money.of(10.0, "USD");
+
+    private ResilientPaymentService paymentService;
+
+    @AfterEach
+    void tearDown() {
+        if (paymentService != null) {
+            paymentService.close();
+        }
+    }
+
+    @Test
+    void shouldPassThroughApprovalsAndDeclines() {
+        // Given
+        paymentService = new ResilientPaymentService((reference, amount) -> reference.endsWith("ok"), settings(null));
+
+        // When & Then
+        assertTrue(paymentService.processPayment("PAY-ok", AMOUNT));
+        assertFalse(paymentService.processPayment("PAY-declined", AMOUNT));
+        assertEquals(CircuitBreaker.State.CLOSED, paymentService.circuitState());
+    }
+
+    @Test
+    void shouldTimeOutSlowProviderAndFreeTheBulkhead() {
+        // Given
+        paymentService = new ResilientPaymentService(sleeping(5_000), settings(null));
+
+        // When
+        long start = System.nanoTime();
+        assertThrows(PaymentOutcomeUnknownException.class, () -> paymentService.processPayment("PAY-1", AMOUNT));
+
+        // Then: bounded by the timeout, and the interrupted call gives its permit back
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2_000);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (paymentService.availableCalls() < 2 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(2, paymentService.availableCalls());
+    }
+
+    @Test
+    void shouldOpenCircuitAfterErrorsAndFailFast() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        paymentService = new ResilientPaymentService((reference, amount) -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("provider down");
+        }, settings(null));
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertThrows(PaymentOutcomeUnknownException.class, () -> paymentService.processPayment("PAY-1", AMOUNT));
+        }
+
+        // Then: the window of 4 is all failures, so the next call never reaches the provider
+        assertEquals(CircuitBreaker.State.OPEN, paymentService.circuitState());
+        PaymentUnavailableException rejected = assertThrows(PaymentUnavailableException.class,
+                () -> paymentService.processPayment("PAY-1", AMOUNT));
+        assertEquals("Payment provider circuit is open", rejected.getMessage());
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void shouldRejectWhenBulkheadIsFull() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        paymentService = new ResilientPaymentService((reference, amount) -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }, settings(null));
+        for (int i = 0; i < 2; i++) {
+            Thread.ofVirtual().start(() -> paymentService.processPayment("PAY-busy", AMOUNT));
+        }
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        // When & Then
+        assertThrows(PaymentUnavailableException.class, () -> paymentService.processPayment("PAY-1", AMOUNT));
+        release.countDown();
+    }
+
+    @Test
+    void shouldHedgeSlowCallAndTakeFirstAnswer() {
+        // Given: the first attempt hangs, the hedge answers quickly
+        AtomicInteger attempts = new AtomicInteger();
+        PaymentService provider = (reference, amount) -> {
+            if (attempts.incrementAndGet() == 1) {
+                return sleeping(5_000).processPayment(reference, amount);
+            }
+            return true;
+        };
+        paymentService = new ResilientPaymentService(provider, settings(Duration.ofMillis(50)));
+
+        // When
+        boolean paid = paymentService.processPayment("PAY-1", AMOUNT);
+
+        // Then
+        assertTrue(paid);
+        assertEquals(2, attempts.get());
+    }
+
+    private static ResilientPaymentService.Settings settings(Duration hedgeDelay) {
+        return new ResilientPaymentService.Settings(Duration.ofMillis(300), 2, Duration.ZERO,
+                4, 4, 0.5, Duration.ofMinutes(1), 1, hedgeDelay);
+    }
+
+    private static PaymentService sleeping(long millis) {
+        return (reference, amount) -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted");
+            }
+            return true;
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,251 @@
+package com.hexarch.demo.infrastructure.adapters.persistence;
+
+import com.hexarch.demo.application.usecases.AsyncConfirmOrderUseCase;
+import com.hexarch.demo.application.usecases.ConfirmOrderUseCase;
+import com.hexarch.demo.application.usecases.CreateCustomerUseCase;
+import com.hexarch.demo.application.usecases.CreateOrderUseCase;
+import com.hexarch.demo.application.usecases.GetOrderUseCase;
+import com.hexarch.demo.domain.model.Customer;
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.model.Order;
+import com.hexarch.demo.domain.model.OrderStatus;
+import com.hexarch.demo.domain.ports.CustomerOrderStatsRepository;
+import com.hexarch.demo.domain.ports.CustomerRepository;
+import com.hexarch.demo.domain.ports.EmailOutbox;
+import com.hexarch.demo.domain.ports.OrderRepository;
+import com.hexarch.demo.domain.ports.PaymentOutcomeUnknownException;
+import com.hexarch.demo.domain.ports.PaymentUnavailableException;
+import com.hexarch.demo.domain.ports.PaymentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Races many confirms of the same order against the real database; only the compare-and-set decides the winner
+@SpringBootTest(properties = {
+        "orders.cache.enabled=false",
+        "orders.email.outbox.dispatcher.enabled=false"
+})
+@ActiveProfiles("test")
+class ConcurrentConfirmTest {
+    private static final int ROUNDS = 5;
+    private static final int CONTENDERS = 8;
+    private static final Duration PAYMENT_LATENCY = Duration.ofMillis(500);
+
+    @Autowired
+    private CreateCustomerUseCase createCustomerUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private ConfirmOrderUseCase confirmOrderUseCase;
+
+    @Autowired
+    private GetOrderUseCase getOrderUseCase;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EmailOutbox emailOutbox;
+
+    @Autowired
+    private CustomerOrderStatsRepository customerOrderStatsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private PaymentService paymentService;
+
+    private final Map<String, AtomicInteger> paymentsByReference = new ConcurrentHashMap<>();
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        when(paymentService.processPayment(anyString(), any(Money.class))).thenAnswer(invocation -> {
+            paymentsByReference.computeIfAbsent(invocation.getArgument(0), reference -> new AtomicInteger())
+                    .incrementAndGet();
+            // Long enough that a loser waiting on the winner's payment would stand out
+            Thread.sleep(PAYMENT_LATENCY.toMillis());
+            return true;
+        });
+        customer = createCustomerUseCase.execute(new CreateCustomerUseCase.CreateCustomerCommand(
+                "Race Customer", "race-" + System.nanoTime() + "@example.com"));
+    }
+
+    @Test
+    void shouldConfirmAndChargeEachOrderExactlyOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONTENDERS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                // Given
+                Order order = createOrder();
+                CountDownLatch start = new CountDownLatch(1);
+
+                // When
+                long[] elapsed = new long[CONTENDERS];
+                List<Future<Order>> attempts = new ArrayList<>();
+                for (int i = 0; i < CONTENDERS; i++) {
+                    int contender = i;
+                    attempts.add(executor.submit(() -> {
+                        start.await();
+                        long began = System.nanoTime();
+                        try {
+                            return confirmOrderUseCase.execute(new ConfirmOrderUseCase.ConfirmOrderCommand(order.getId()));
+                        } finally {
+                            elapsed[contender] = System.nanoTime() - began;
+                        }
+                    }));
+                }
+                start.countDown();
+
+                // Then: one winner, and every loser rejected as a conflict before the winner's payment returns
+                int winners = 0;
+                for (int i = 0; i < CONTENDERS; i++) {
+                    try {
+                        attempts.get(i).get();
+                        assertTrue(Duration.ofNanos(elapsed[i]).compareTo(PAYMENT_LATENCY.plusSeconds(5)) < 0);
+                        winners++;
+                    } catch (ExecutionException e) {
+                        assertInstanceOf(IllegalStateException.class, e.getCause(), e.getCause()::toString);
+                        Duration took = Duration.ofNanos(elapsed[i]);
+                        assertTrue(took.compareTo(PAYMENT_LATENCY) < 0, () -> "Loser took " + took);
+                    }
+                }
+                assertEquals(1, winners);
+                assertEquals(1, paymentsByReference.get("PAY-" + order.getId()).get());
+                assertEquals(OrderStatus.PAID, getOrderUseCase.execute(
+                        new GetOrderUseCase.GetOrderQuery(order.getId())).getStatus());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldPayOnceWhenAsyncWorkersRace() throws Exception {
+        // Given: one async use case per contender, as if each ran on its own instance
+        Order order = createOrder();
+        ExecutorService executor = Executors.newFixedThreadPool(CONTENDERS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        long[] elapsed = new long[CONTENDERS];
+        List<Future<AsyncConfirmOrderUseCase.ConfirmationState>> attempts = new ArrayList<>();
+        for (int i = 0; i < CONTENDERS; i++) {
+            int contender = i;
+            AsyncConfirmOrderUseCase worker = new AsyncConfirmOrderUseCase(orderRepository, customerRepository,
+                    paymentService, emailOutbox, customerOrderStatsRepository, transactionManager, Runnable::run);
+            attempts.add(executor.submit(() -> {
+                start.await();
+                long began = System.nanoTime();
+                try {
+                    worker.submit(new ConfirmOrderUseCase.ConfirmOrderCommand(order.getId()));
+                    return worker.getStatus(order.getId()).orElseThrow().state();
+                } catch (IllegalStateException e) {
+                    // The order had already left CREATED when this worker looked at it
+                    return AsyncConfirmOrderUseCase.ConfirmationState.FAILED;
+                } finally {
+                    elapsed[contender] = System.nanoTime() - began;
+                }
+            }));
+        }
+        start.countDown();
+
+        // Then: one worker paid, and every other one gave up without waiting for that payment
+        int winners = 0;
+        try {
+            for (int i = 0; i < CONTENDERS; i++) {
+                if (attempts.get(i).get() == AsyncConfirmOrderUseCase.ConfirmationState.PAID) {
+                    winners++;
+                } else {
+                    Duration took = Duration.ofNanos(elapsed[i]);
+                    assertTrue(took.compareTo(PAYMENT_LATENCY) < 0, () -> "Loser took " + took);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, winners);
+        assertEquals(1, paymentsByReference.get("PAY-" + order.getId()).get());
+        assertEquals(OrderStatus.PAID, getOrderUseCase.execute(
+                new GetOrderUseCase.GetOrderQuery(order.getId())).getStatus());
+    }
+
+    @Test
+    void shouldHandClaimBackWhenPaymentFails() {
+        // Given
+        Order order = createOrder();
+        when(paymentService.processPayment(anyString(), any(Money.class)))
+                .thenThrow(new PaymentUnavailableException("Payment provider circuit is open"))
+                .thenReturn(true);
+
+        // When
+        assertThrows(PaymentUnavailableException.class,
+                () -> confirmOrderUseCase.execute(new ConfirmOrderUseCase.ConfirmOrderCommand(order.getId())));
+
+        // Then: the claim was compensated, so a retry can confirm and pay
+        Order reverted = getOrderUseCase.execute(new GetOrderUseCase.GetOrderQuery(order.getId()));
+        assertEquals(OrderStatus.CREATED, reverted.getStatus());
+        assertNull(reverted.getConfirmedAt());
+        assertEquals(OrderStatus.PAID, confirmOrderUseCase.execute(
+                new ConfirmOrderUseCase.ConfirmOrderCommand(order.getId())).getStatus());
+    }
+
+    @Test
+    void shouldKeepClaimWhenPaymentOutcomeIsUnknown() {
+        // Given
+        Order order = createOrder();
+        when(paymentService.processPayment(anyString(), any(Money.class)))
+                .thenThrow(new PaymentOutcomeUnknownException("Payment timed out"))
+                .thenReturn(true);
+
+        // When
+        assertThrows(PaymentOutcomeUnknownException.class,
+                () -> confirmOrderUseCase.execute(new ConfirmOrderUseCase.ConfirmOrderCommand(order.getId())));
+
+        // Then: the customer may have been charged, so the order cannot be confirmed and paid again
+        assertEquals(OrderStatus.CONFIRMED, getOrderUseCase.execute(
+                new GetOrderUseCase.GetOrderQuery(order.getId())).getStatus());
+        assertThrows(IllegalStateException.class,
+                () -> confirmOrderUseCase.execute(new ConfirmOrderUseCase.ConfirmOrderCommand(order.getId())));
+        verify(paymentService, times(1)).processPayment(anyString(), any(Money.class));
+    }
+
+    private Order createOrder() {
+        return createOrderUseCase.execute(new CreateOrderUseCase.CreateOrderCommand(customer.getId(),
+                List.of(new CreateOrderUseCase.CreateOrderItemCommand("Widget", 10.0, "USD", 1))));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.hexarch.demo.infrastructure.adapters.persistence;
+
+import com.hexarch.demo.domain.ports.EmailOutbox;
+import com.hexarch.demo.domain.ports.EmailService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Several dispatchers polling one outbox, as with several app instances; each email must be handed out once
+@SpringBootTest(properties = {
+        "orders.email.outbox.dispatcher.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:outbox-claim;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@ActiveProfiles("test")
+class EmailOutboxClaimTest {
+    private static final int EMAILS = 200;
+    private static final int DISPATCHERS = 4;
+
+    @Autowired
+    private EmailOutbox emailOutbox;
+
+    @Test
+    void shouldHandEachDueEmailToOneDispatcher() throws Exception {
+        // Given
+        for (int i = 0; i < EMAILS; i++) {
+            emailOutbox.enqueue(new EmailService.OrderConfirmationEmail("claim@example.com", "claim-" + i, "details"));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(DISPATCHERS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When: every dispatcher polls small batches until nothing is due
+        List<Future<List<String>>> dispatchers = new ArrayList<>();
+        for (int i = 0; i < DISPATCHERS; i++) {
+            dispatchers.add(executor.submit(() -> {
+                start.await();
+                List<String> fetched = new ArrayList<>();
+                List<EmailService.OrderConfirmationEmail> batch;
+                while (!(batch = emailOutbox.fetchDue(10)).isEmpty()) {
+                    batch.forEach(email -> fetched.add(email.orderId()));
+                }
+                return fetched;
+            }));
+        }
+        start.countDown();
+
+        // Then
+        List<String> fetched = new ArrayList<>();
+        for (Future<List<String>> dispatcher : dispatchers) {
+            fetched.addAll(dispatcher.get());
+        }
+        executor.shutdown();
+        Set<String> distinct = new HashSet<>(fetched);
+        assertEquals(fetched.size(), distinct.size());
+        assertEquals(EMAILS, distinct.size());
+        assertTrue(emailOutbox.fetchDue(EMAILS).isEmpty());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.hexarch.demo.infrastructure.adapters.persistence;
+
+import com.hexarch.demo.domain.ports.IdempotencyStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Retries that find the same expired key must all get an answer: one claims it, the others see it in progress
+@SpringBootTest(properties = {
+        "orders.email.outbox.dispatcher.enabled=false",
+        "orders.idempotency.in-progress-timeout=200ms",
+        "spring.datasource.url=jdbc:h2:mem:idempotency-reclaim;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@ActiveProfiles("test")
+class IdempotencyKeyReclaimTest {
+    private static final int ROUNDS = 5;
+    private static final int RETRIES = 4;
+
+    @Autowired
+    private IdempotencyStoreAdapter idempotencyStore;
+
+    @Test
+    void shouldLetOneOfConcurrentRetriesReclaimAnExpiredKey() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(RETRIES);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                // Given: a claim whose request never finished and has expired
+                String key = "reclaim-" + round;
+                assertTrue(idempotencyStore.claim(key, "hash").isEmpty());
+                Thread.sleep(300);
+                CountDownLatch start = new CountDownLatch(1);
+
+                // When
+                List<Future<Optional<IdempotencyStore.IdempotencyEntry>>> retries = new ArrayList<>();
+                for (int i = 0; i < RETRIES; i++) {
+                    retries.add(executor.submit(() -> {
+                        start.await();
+                        return idempotencyStore.claim(key, "hash");
+                    }));
+                }
+                start.countDown();
+
+                // Then: no retry fails, and exactly one claims the key
+                int claimed = 0;
+                for (Future<Optional<IdempotencyStore.IdempotencyEntry>> retry : retries) {
+                    if (retry.get().isEmpty()) {
+                        claimed++;
+                    }
+                }
+                assertEquals(1, claimed);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
\ No newline at end of file
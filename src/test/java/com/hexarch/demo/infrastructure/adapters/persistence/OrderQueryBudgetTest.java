@@ -0,0 +1,159 @@
+package com.hexarch.demo.infrastructure.adapters.persistence;
+
+import com.hexarch.demo.application.usecases.ConfirmOrderUseCase;
+import com.hexarch.demo.application.usecases.CreateCustomerUseCase;
+import com.hexarch.demo.application.usecases.CreateOrderUseCase;
+import com.hexarch.demo.application.usecases.GetOrderUseCase;
+import com.hexarch.demo.application.usecases.ListOrdersUseCase;
+import com.hexarch.demo.domain.model.Customer;
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.model.Order;
+import com.hexarch.demo.domain.ports.PaymentService;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+// Counts JDBC round trips per use case; sequence allocation is excluded since it is amortized by the pooled optimizer
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.hexarch.demo.infrastructure.adapters.persistence.OrderQueryBudgetTest$RecordingStatementInspector",
+        "orders.cache.enabled=false",
+        "orders.email.outbox.dispatcher.enabled=false"
+})
+@ActiveProfiles("test")
+class OrderQueryBudgetTest {
+
+    @Autowired
+    private CreateCustomerUseCase createCustomerUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private ConfirmOrderUseCase confirmOrderUseCase;
+
+    @Autowired
+    private GetOrderUseCase getOrderUseCase;
+
+    @Autowired
+    private ListOrdersUseCase listOrdersUseCase;
+
+    @MockBean
+    private PaymentService paymentService;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        when(paymentService.processPayment(anyString(), any(Money.class))).thenReturn(true);
+        customer = createCustomerUseCase.execute(new CreateCustomerUseCase.CreateCustomerCommand(
+                "Budget Customer", "budget-" + System.nanoTime() + "@example.com"));
+    }
+
+    @Test
+    void shouldCreateOrderWithinBudget() {
+        // When
+        RecordingStatementInspector.reset();
+        createOrder();
+
+        // Then: customer check, stats increment, order insert, batched item insert
+        List<String> statements = RecordingStatementInspector.roundTrips();
+        assertEquals(1, count(statements, "from customers"), statements::toString);
+        assertEquals(1, count(statements, "update customer_order_stats"), statements::toString);
+        assertEquals(4, statements.size(), statements::toString);
+    }
+
+    @Test
+    void shouldConfirmOrderWithinBudget() {
+        // Given
+        Order order = createOrder();
+
+        // When
+        RecordingStatementInspector.reset();
+        confirmOrderUseCase.execute(new ConfirmOrderUseCase.ConfirmOrderCommand(order.getId()));
+
+        // Then: order + customer load, outbox dedup check and insert, the CREATED -> CONFIRMED claim and the
+        // CONFIRMED -> PAID compare-and-set, stats counter update, and the paid total update plus its insert
+        // for the customer's first paid order
+        List<String> statements = RecordingStatementInspector.roundTrips();
+        assertEquals(1, count(statements, "from customers"), statements::toString);
+        assertEquals(0, count(statements, "into order_items"), statements::toString);
+        assertEquals(2, count(statements, "update orders set status=?,confirmed_at=?,version=(version+1) where id=? and status=?"),
+                statements::toString);
+        assertEquals(1, count(statements, "update customer_order_stats"), statements::toString);
+        assertEquals(9, statements.size(), statements::toString);
+    }
+
+    @Test
+    void shouldGetOrderWithSingleQuery() {
+        // Given
+        Order order = createOrder();
+
+        // When
+        RecordingStatementInspector.reset();
+        getOrderUseCase.execute(new GetOrderUseCase.GetOrderQuery(order.getId()));
+
+        // Then
+        List<String> statements = RecordingStatementInspector.roundTrips();
+        assertEquals(1, statements.size(), statements::toString);
+    }
+
+    @Test
+    void shouldListOrdersWithSingleProjectionQuery() {
+        // Given
+        createOrder();
+        createOrder();
+
+        // When
+        RecordingStatementInspector.reset();
+        listOrdersUseCase.execute(new ListOrdersUseCase.ListOrdersQuery(customer.getId(), null, null, null, 10));
+
+        // Then: no entity hydration, so neither items nor customers are touched
+        List<String> statements = RecordingStatementInspector.roundTrips();
+        assertEquals(1, statements.size(), statements::toString);
+        assertEquals(0, count(statements, "order_items"), statements::toString);
+        assertEquals(0, count(statements, "from customers"), statements::toString);
+    }
+
+    private Order createOrder() {
+        return createOrderUseCase.execute(new CreateOrderUseCase.CreateOrderCommand(customer.getId(), List.of(
+                new CreateOrderUseCase.CreateOrderItemCommand("Product A", 10.0, "USD", 1),
+                new CreateOrderUseCase.CreateOrderItemCommand("Product B", 5.0, "USD", 2))));
+    }
+
+    private static long count(List<String> statements, String fragment) {
+        return statements.stream().filter(sql -> sql.contains(fragment)).count();
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase());
+            return sql;
+        }
+
+        static void reset() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> roundTrips() {
+            return STATEMENTS.stream()
+                    .filter(sql -> !sql.contains("next value for") && !sql.contains("_seq"))
+                    .toList();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.hexarch.demo.infrastructure.adapters.persistence;
+
+import com.hexarch.demo.application.usecases.CreateCustomerUseCase;
+import com.hexarch.demo.application.usecases.CreateOrderUseCase;
+import com.hexarch.demo.domain.model.Customer;
+import com.hexarch.demo.domain.model.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Ids must be stored as the big-endian bytes of the UUID, so time-ordered ids append to the index
+@SpringBootTest(properties = "orders.email.outbox.dispatcher.enabled=false")
+@ActiveProfiles("test")
+class UuidColumnMappingTest {
+    @Autowired
+    private CreateCustomerUseCase createCustomerUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldStoreIdsAsBigEndianBinary16() {
+        // Given
+        Customer customer = createCustomerUseCase.execute(new CreateCustomerUseCase.CreateCustomerCommand(
+                "Binary Ids", "binary-" + System.nanoTime() + "@example.com"));
+
+        // When
+        Order order = createOrderUseCase.execute(new CreateOrderUseCase.CreateOrderCommand(customer.getId(),
+                List.of(new CreateOrderUseCase.CreateOrderItemCommand("Product A", 10.0, "USD", 1))));
+
+        // Then
+        byte[] orderId = bigEndian(order.getId().getValue());
+        Map<String, Object> row = jdbcTemplate.queryForMap("select id, customer_id from orders where id = ?", orderId);
+        assertArrayEquals(orderId, (byte[]) row.get("ID"));
+        assertArrayEquals(bigEndian(customer.getId().getValue()), (byte[]) row.get("CUSTOMER_ID"));
+        for (String table : List.of("ORDERS", "CUSTOMERS", "CUSTOMER_ORDER_STATS")) {
+            String idColumn = table.equals("CUSTOMER_ORDER_STATS") ? "CUSTOMER_ID" : "ID";
+            assertEquals("BINARY", jdbcTemplate.queryForObject("select data_type from information_schema.columns"
+                    + " where table_name = ? and column_name = ?", String.class, table, idColumn), table);
+        }
+    }
+
+    private static byte[] bigEndian(UUID uuid) {
+        return ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,151 @@
+package com.hexarch.demo.infrastructure.adapters.rest;
+
+import com.hexarch.demo.OrderManagementApplication;
+import com.hexarch.demo.application.usecases.AsyncConfirmOrderUseCase;
+import com.hexarch.demo.application.usecases.CreateCustomerUseCase;
+import com.hexarch.demo.application.usecases.CreateOrderUseCase;
+import com.hexarch.demo.domain.model.Customer;
+import com.hexarch.demo.domain.model.OrderId;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Opt-in: mvn test -Dgroups=load -DexcludedGroups= [-Dload.orders=400 -Dload.concurrency=400]
+@Tag("load")
+class ConfirmLoadComparisonTest {
+    private static final int ORDERS = Integer.getInteger("load.orders", 400);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 400);
+
+    @Test
+    void compareConfirmThroughputWithAndWithoutVirtualThreads() throws Exception {
+        List<Result> results = List.of(
+                run("platform threads, sync confirm", false, false),
+                run("virtual threads, sync confirm", true, false),
+                run("platform threads, async confirm", false, true),
+                run("virtual threads, async confirm", true, true));
+
+        System.out.printf("%n%d confirms, %d concurrent clients%n", ORDERS, CONCURRENCY);
+        System.out.printf("%-34s %10s %10s %10s %10s %10s%n", "mode", "ok", "errors", "conf/s", "p50 ms", "p99 ms");
+        for (Result result : results) {
+            System.out.printf("%-34s %10d %10d %10.1f %10d %10d%n", result.mode(), result.ok(), result.errors(),
+                    result.throughput(), result.p50Millis(), result.p99Millis());
+        }
+
+        results.forEach(result -> assertTrue(result.ok() > 0, result.mode() + " completed no confirms"));
+    }
+
+    private Result run(String mode, boolean virtualThreads, boolean asyncConfirm) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OrderManagementApplication.class)
+                .profiles("test")
+                .run(
+                        // Command-line arguments so they win over application.properties
+                        "--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--orders.confirm.async.enabled=" + asyncConfirm,
+                        "--orders.confirm.async.queue-capacity=" + ORDERS)) {
+            List<OrderId> orderIds = createOrders(context);
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+
+            long[] latencies = new long[orderIds.size()];
+            int ok = 0;
+            long started = System.nanoTime();
+            try (ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY, Thread.ofVirtual().factory());
+                 HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build()) {
+                List<Future<Integer>> responses = new ArrayList<>();
+                for (int i = 0; i < orderIds.size(); i++) {
+                    int index = i;
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(
+                                    "http://localhost:" + port + "/api/orders/" + orderIds.get(i) + "/confirm"))
+                            .POST(HttpRequest.BodyPublishers.noBody())
+                            .build();
+                    responses.add(clients.submit(() -> {
+                        long requestStarted = System.nanoTime();
+                        int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        latencies[index] = System.nanoTime() - requestStarted;
+                        return status;
+                    }));
+                }
+                for (Future<Integer> response : responses) {
+                    int status = response.get();
+                    if (status == 200 || status == 202) {
+                        ok++;
+                    }
+                }
+            }
+
+            // In async mode a confirm only counts once the worker has finished with it
+            if (asyncConfirm) {
+                ok = awaitAsyncConfirms(context.getBean(AsyncConfirmOrderUseCase.class), orderIds);
+            }
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            Arrays.sort(latencies);
+            return new Result(mode, ok, orderIds.size() - ok, ok / seconds,
+                    latencies[latencies.length / 2] / 1_000_000, latencies[(int) (latencies.length * 0.99)] / 1_000_000);
+        }
+    }
+
+    private List<OrderId> createOrders(ConfigurableApplicationContext context) {
+        CreateCustomerUseCase createCustomerUseCase = context.getBean(CreateCustomerUseCase.class);
+        CreateOrderUseCase createOrderUseCase = context.getBean(CreateOrderUseCase.class);
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        Customer customer = createCustomerUseCase.execute(
+                new CreateCustomerUseCase.CreateCustomerCommand("Load Test", "load@example.com"));
+        List<OrderId> orderIds = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            CreateOrderUseCase.CreateOrderCommand command = new CreateOrderUseCase.CreateOrderCommand(
+                    customer.getId(),
+                    List.of(new CreateOrderUseCase.CreateOrderItemCommand("Product " + i, 10.0, "USD", 1)));
+            orderIds.add(transactionTemplate.execute(tx -> createOrderUseCase.execute(command)).getId());
+        }
+        return orderIds;
+    }
+
+    private int awaitAsyncConfirms(AsyncConfirmOrderUseCase useCase, List<OrderId> orderIds) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofMinutes(2).toNanos();
+        while (System.nanoTime() < deadline) {
+            int paid = 0;
+            int pending = 0;
+            for (OrderId orderId : orderIds) {
+                AsyncConfirmOrderUseCase.ConfirmationState state = useCase.getStatus(orderId)
+                        .map(AsyncConfirmOrderUseCase.ConfirmationStatus::state)
+                        .orElse(AsyncConfirmOrderUseCase.ConfirmationState.FAILED);
+                if (state == AsyncConfirmOrderUseCase.ConfirmationState.PAID) {
+                    paid++;
+                } else if (!state.isTerminal()) {
+                    pending++;
+                }
+            }
+            if (pending == 0) {
+                return paid;
+            }
+            Thread.sleep(10);
+        }
+        return 0;
+    }
+
+    private record Result(String mode, int ok, int errors, double throughput, long p50Millis, long p99Millis) {}
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.hexarch.demo.infrastructure.adapters.rest;
+
+import com.hexarch.demo.application.usecases.CreateCustomerUseCase;
+import com.hexarch.demo.application.usecases.CreateOrderUseCase;
+import com.hexarch.demo.domain.model.Customer;
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.model.Order;
+import com.hexarch.demo.domain.ports.PaymentOutcomeUnknownException;
+import com.hexarch.demo.domain.ports.PaymentService;
+import com.hexarch.demo.domain.ports.PaymentUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// A payment turned away before the provider is safe to retry; one that may have reached it is not
+@SpringBootTest(properties = "orders.email.outbox.dispatcher.enabled=false")
+@ActiveProfiles("test")
+class ConfirmPaymentFailureTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private IdempotencyFilter idempotencyFilter;
+
+    @Autowired
+    private CreateCustomerUseCase createCustomerUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @MockBean
+    private PaymentService paymentService;
+
+    private MockMvc mockMvc;
+
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).addFilters(idempotencyFilter).build();
+        Customer customer = createCustomerUseCase.execute(new CreateCustomerUseCase.CreateCustomerCommand(
+                "Payment Failure", "payment-failure-" + System.nanoTime() + "@example.com"));
+        order = createOrderUseCase.execute(new CreateOrderUseCase.CreateOrderCommand(customer.getId(), List.of(
+                new CreateOrderUseCase.CreateOrderItemCommand("Product A", 10.0, "USD", 1))));
+    }
+
+    @Test
+    void shouldReleaseKeyWhenPaymentIsRejectedBeforeTheProvider() throws Exception {
+        // Given
+        String key = UUID.randomUUID().toString();
+        when(paymentService.processPayment(anyString(), any(Money.class)))
+                .thenThrow(new PaymentUnavailableException("Payment provider circuit is open"))
+                .thenReturn(true);
+
+        // When & Then: the retry with the same key runs again and pays
+        mockMvc.perform(post("/api/orders/" + order.getId() + "/confirm").header("Idempotency-Key", key))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+        mockMvc.perform(post("/api/orders/" + order.getId() + "/confirm").header("Idempotency-Key", key))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+        verify(paymentService, times(2)).processPayment(anyString(), any(Money.class));
+    }
+
+    @Test
+    void shouldKeepKeyWhenPaymentOutcomeIsUnknown() throws Exception {
+        // Given
+        String key = UUID.randomUUID().toString();
+        when(paymentService.processPayment(anyString(), any(Money.class)))
+                .thenThrow(new PaymentOutcomeUnknownException("Payment timed out"))
+                .thenReturn(true);
+
+        // When & Then: the retry with the same key is answered from the stored outcome, not paid again
+        mockMvc.perform(post("/api/orders/" + order.getId() + "/confirm").header("Idempotency-Key", key))
+                .andExpect(status().isGatewayTimeout());
+        mockMvc.perform(post("/api/orders/" + order.getId() + "/confirm").header("Idempotency-Key", key))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(header().string("Idempotent-Replayed", "true"));
+        verify(paymentService, times(1)).processPayment(anyString(), any(Money.class));
+    }
+
+    @Test
+    void shouldNotPayAgainAfterUnknownOutcome() throws Exception {
+        // Given
+        when(paymentService.processPayment(anyString(), any(Money.class)))
+                .thenThrow(new PaymentOutcomeUnknownException("Payment timed out"))
+                .thenReturn(true);
+        mockMvc.perform(post("/api/orders/" + order.getId() + "/confirm")
+                        .header("Idempotency-Key", UUID.randomUUID().toString()))
+                .andExpect(status().isGatewayTimeout());
+
+        // When & Then: the order stays claimed, so neither a new key nor no key can charge it again
+        mockMvc.perform(post("/api/orders/" + order.getId() + "/confirm")
+                        .header("Idempotency-Key", UUID.randomUUID().toString()))
+                .andExpect(status().isConflict());
+        mockMvc.perform(post("/api/orders/" + order.getId() + "/confirm"))
+                .andExpect(status().isConflict());
+        verify(paymentService, times(1)).processPayment(anyString(), any(Money.class));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,272 @@
+package com.hexarch.demo.infrastructure.adapters.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexarch.demo.OrderManagementApplication;
+import com.hexarch.demo.application.usecases.CreateCustomerUseCase;
+import com.hexarch.demo.application.usecases.CreateOrderUseCase;
+import com.hexarch.demo.domain.model.CustomerId;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Full-stack load on H2 with the mock payment and email adapters. Requests are sent at a fixed arrival rate
+// whether or not earlier ones have answered (open model), and latency is measured from each request's
+// scheduled send time, so a stalled server shows up in the percentiles instead of slowing the generator.
+//
+// Opt-in: mvn test -Dgroups=load -DexcludedGroups= -Dtest=OrderApiLoadTest
+//   [-Dload.rate=50 -Dload.warmup=5 -Dload.duration=20 -Dload.mix=customer:1,create:4,confirm:2,get:3
+//    -Dload.payment-latency-ms=20]
+@Tag("load")
+class OrderApiLoadTest {
+    private static final int RATE = Integer.getInteger("load.rate", 50);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration", 20);
+    private static final String MIX = System.getProperty("load.mix", "customer:1,create:4,confirm:2,get:3");
+    private static final int PAYMENT_LATENCY_MILLIS = Integer.getInteger("load.payment-latency-ms", 20);
+    private static final long MAX_TRACKED_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+    private final List<String> customerIds = new CopyOnWriteArrayList<>();
+    private final List<String> orderIds = new CopyOnWriteArrayList<>();
+    private final Queue<String> unconfirmedOrderIds = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void reportLatencyPercentilesPerEndpoint() throws Exception {
+        Map<Endpoint, Integer> weights = parseMix(MIX);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new Stats());
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OrderManagementApplication.class)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "--orders.payment.mock.latency-ms=" + PAYMENT_LATENCY_MILLIS);
+             HttpClient http = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .build()) {
+            seed(context, weights);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            drive(http, baseUrl, weights, WARMUP_SECONDS);
+            stats.values().forEach(Stats::reset);
+            long started = System.nanoTime();
+            drive(http, baseUrl, weights, DURATION_SECONDS);
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            report(seconds);
+        }
+
+        weights.forEach((endpoint, weight) -> assertTrue(weight == 0 || stats.get(endpoint).succeeded() > 0,
+                endpoint + " had no successful requests"));
+    }
+
+    // Sends requests at their scheduled times until the phase ends, then waits for the stragglers
+    private void drive(HttpClient http, String baseUrl, Map<Endpoint, Integer> weights, int seconds)
+            throws InterruptedException {
+        List<Endpoint> schedule = weightedSchedule(weights);
+        long interval = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long start = System.nanoTime();
+        long requests = (long) RATE * seconds;
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (long i = 0; i < requests; i++) {
+            long intended = start + i * interval;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = schedule.get((int) (i % schedule.size()));
+            inFlight.add(send(http, baseUrl, endpoint, intended, random));
+            inFlight.removeIf(CompletableFuture::isDone);
+        }
+
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).get(1, TimeUnit.MINUTES);
+        } catch (ExecutionException | TimeoutException e) {
+            // Failures are already counted per endpoint
+        }
+    }
+
+    private CompletableFuture<?> send(HttpClient http, String baseUrl, Endpoint endpoint, long intended, Random random) {
+        HttpRequest request = switch (endpoint) {
+            case CUSTOMER_CREATE -> post(baseUrl + "/api/customers",
+                    "{\"name\":\"Load\",\"email\":\"load-" + UUID.randomUUID() + "@example.com\"}");
+            case ORDER_CREATE -> post(baseUrl + "/api/orders", "{\"customerId\":\""
+                    + customerIds.get(random.nextInt(customerIds.size()))
+                    + "\",\"items\":[{\"productName\":\"Widget\",\"unitPrice\":19.99,\"currency\":\"USD\",\"quantity\":2}]}");
+            case ORDER_CONFIRM -> {
+                String orderId = unconfirmedOrderIds.poll();
+                yield orderId == null ? null
+                        : post(baseUrl + "/api/orders/" + orderId + "/confirm", null);
+            }
+            case ORDER_GET -> HttpRequest.newBuilder(URI.create(
+                    baseUrl + "/api/orders/" + orderIds.get(random.nextInt(orderIds.size())))).GET().build();
+        };
+
+        Stats endpointStats = stats.get(endpoint);
+        if (request == null) {
+            // The seeded pool ran dry; count it rather than silently dropping the scheduled request
+            endpointStats.errors.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }
+        return http.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    endpointStats.latencies.recordValue(Math.min(System.nanoTime() - intended, MAX_TRACKED_NANOS));
+                    if (error != null || response.statusCode() >= 400) {
+                        endpointStats.errors.incrementAndGet();
+                    } else {
+                        remember(endpoint, response.body());
+                    }
+                });
+    }
+
+    private void remember(Endpoint endpoint, String body) {
+        if (endpoint != Endpoint.CUSTOMER_CREATE && endpoint != Endpoint.ORDER_CREATE) {
+            return;
+        }
+        try {
+            JsonNode json = objectMapper.readTree(body);
+            if (endpoint == Endpoint.CUSTOMER_CREATE) {
+                customerIds.add(json.get("id").asText());
+            } else {
+                orderIds.add(json.get("id").asText());
+                unconfirmedOrderIds.add(json.get("id").asText());
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Unexpected response body: " + body, e);
+        }
+    }
+
+    // Enough customers and unconfirmed orders that confirm and get never wait for creates to catch up
+    private void seed(ConfigurableApplicationContext context, Map<Endpoint, Integer> weights) {
+        CreateCustomerUseCase createCustomerUseCase = context.getBean(CreateCustomerUseCase.class);
+        CreateOrderUseCase createOrderUseCase = context.getBean(CreateOrderUseCase.class);
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        int totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        long confirms = (long) RATE * (WARMUP_SECONDS + DURATION_SECONDS)
+                * weights.getOrDefault(Endpoint.ORDER_CONFIRM, 0) / totalWeight;
+        List<CustomerId> seededCustomers = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            CustomerId customerId = createCustomerUseCase.execute(new CreateCustomerUseCase.CreateCustomerCommand(
+                    "Seed " + i, "seed-" + i + "@example.com")).getId();
+            seededCustomers.add(customerId);
+            customerIds.add(customerId.toString());
+        }
+        for (long i = 0; i < Math.max(confirms, 100); i++) {
+            CreateOrderUseCase.CreateOrderCommand command = new CreateOrderUseCase.CreateOrderCommand(
+                    seededCustomers.get((int) (i % seededCustomers.size())),
+                    List.of(new CreateOrderUseCase.CreateOrderItemCommand("Seed " + i, 10.0, "USD", 1)));
+            String orderId = transactionTemplate.execute(tx -> createOrderUseCase.execute(command)).getId().toString();
+            orderIds.add(orderId);
+            unconfirmedOrderIds.add(orderId);
+        }
+    }
+
+    private void report(double seconds) {
+        System.out.printf("%n%d req/s offered for %ds, mix %s, payment latency %d ms%n",
+                RATE, DURATION_SECONDS, MIX, PAYMENT_LATENCY_MILLIS);
+        System.out.printf("%-16s %8s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (Endpoint endpoint : Endpoint.values()) {
+            Stats endpointStats = stats.get(endpoint);
+            Histogram histogram = endpointStats.latencies;
+            System.out.printf("%-16s %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.label, histogram.getTotalCount(), endpointStats.errors.get(),
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()));
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(json == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    // Interleaves endpoints by weight so every short window sees roughly the configured mix
+    private static List<Endpoint> weightedSchedule(Map<Endpoint, Integer> weights) {
+        List<Endpoint> schedule = new ArrayList<>();
+        weights.forEach((endpoint, weight) -> schedule.addAll(Collections.nCopies(weight, endpoint)));
+        Collections.shuffle(schedule, new Random(7));
+        return schedule;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String part : mix.split(",")) {
+            String[] entry = part.trim().split(":");
+            weights.put(Endpoint.fromLabel(entry[0]), Integer.parseInt(entry[1]));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Load mix has no weight: " + mix);
+        }
+        return weights;
+    }
+
+    private enum Endpoint {
+        CUSTOMER_CREATE("customer"),
+        ORDER_CREATE("create"),
+        ORDER_CONFIRM("confirm"),
+        ORDER_GET("get");
+
+        private final String label;
+
+        Endpoint(String label) {
+            this.label = label;
+        }
+
+        static Endpoint fromLabel(String label) {
+            return Arrays.stream(values())
+                    .filter(endpoint -> endpoint.label.equals(label))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint in load mix: " + label));
+        }
+    }
+
+    private static class Stats {
+        private final Histogram latencies = new ConcurrentHistogram(MAX_TRACKED_NANOS, 3);
+        private final AtomicLong errors = new AtomicLong();
+
+        long succeeded() {
+            return latencies.getTotalCount() - errors.get();
+        }
+
+        void reset() {
+            latencies.reset();
+            errors.set(0);
+        }
+    }
+}
\ No newline at end of file
@@ -3,21 +3,27 @@ package com.hexarch.demo.infrastructure.adapters.rest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
+@AutoConfigureObservability(tracing = false)
 @ActiveProfiles("test")
 @Transactional
 class OrderManagementIntegrationTest {
@@ -28,6 +34,9 @@ class OrderManagementIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private IdempotencyFilter idempotencyFilter;
+
     private MockMvc mockMvc;
 
     @Test
@@ -83,4 +92,307 @@ class OrderManagementIntegrationTest {
                 .andExpect(jsonPath("$.status").value("PAID"))
                 .andExpect(jsonPath("$.confirmedAt").exists());
     }
+
+    @Test
+    void shouldCreateOrdersInBatchWithPerOrderResults() throws Exception {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        String customerResponse = mockMvc.perform(post("/api/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new CustomerController.CreateCustomerRequest("Jane Doe", "jane@example.com"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        CustomerController.CustomerResponse customer =
+                objectMapper.readValue(customerResponse, CustomerController.CustomerResponse.class);
+
+        OrderController.CreateOrderItemRequest item =
+                new OrderController.CreateOrderItemRequest("Test Product", 10.0, "USD", 2);
+        OrderController.CreateOrdersBatchRequest batchRequest = new OrderController.CreateOrdersBatchRequest(List.of(
+                new OrderController.CreateOrderRequest(customer.id(), List.of(item)),
+                new OrderController.CreateOrderRequest("not-a-uuid", List.of(item)),
+                new OrderController.CreateOrderRequest(customer.id(), List.of(item, item))));
+
+        String batchResponse = mockMvc.perform(post("/api/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[2].order.totalAmount").value(40.0))
+                .andReturn().getResponse().getContentAsString();
+
+        OrderController.BatchCreateOrdersResponse batch =
+                objectMapper.readValue(batchResponse, OrderController.BatchCreateOrdersResponse.class);
+
+        // Orders and their items are readable after the batch insert
+        mockMvc.perform(get("/api/orders/" + batch.results().get(2).order().id()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2));
+    }
+
+    @Test
+    void shouldListOrdersPageByPageWithFilters() throws Exception {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        String customerResponse = mockMvc.perform(post("/api/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new CustomerController.CreateCustomerRequest("Page Reader", "pages@example.com"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        CustomerController.CustomerResponse customer =
+                objectMapper.readValue(customerResponse, CustomerController.CustomerResponse.class);
+
+        OrderController.CreateOrderItemRequest item =
+                new OrderController.CreateOrderItemRequest("Test Product", 10.0, "USD", 1);
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(
+                            new OrderController.CreateOrderRequest(customer.id(), List.of(item)))))
+                    .andExpect(status().isCreated());
+        }
+
+        // First page carries a cursor, the second page finishes the listing
+        String firstPage = mockMvc.perform(get("/api/orders")
+                .param("customerId", customer.id())
+                .param("status", "CREATED")
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders.length()").value(2))
+                .andExpect(jsonPath("$.orders[0].customerId").value(customer.id()))
+                .andExpect(jsonPath("$.orders[0].items").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andReturn().getResponse().getContentAsString();
+
+        OrderController.OrderPageResponse page =
+                objectMapper.readValue(firstPage, OrderController.OrderPageResponse.class);
+
+        mockMvc.perform(get("/api/orders")
+                .param("customerId", customer.id())
+                .param("status", "CREATED")
+                .param("limit", "2")
+                .param("cursor", page.nextCursor()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders.length()").value(1))
+                .andExpect(jsonPath("$.orders[0].id").value(org.hamcrest.Matchers.not(
+                        org.hamcrest.Matchers.in(page.orders().stream().map(OrderController.OrderSummaryResponse::id).toList()))))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/api/orders").param("customerId", customer.id()).param("status", "PAID"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders.length()").value(0));
+
+        mockMvc.perform(get("/api/orders").param("limit", "1000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldExportOrdersInRangeAsNdjsonAndCsv() throws Exception {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        String customerResponse = mockMvc.perform(post("/api/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new CustomerController.CreateCustomerRequest("Finance", "finance@example.com"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        CustomerController.CustomerResponse customer =
+                objectMapper.readValue(customerResponse, CustomerController.CustomerResponse.class);
+
+        LocalDateTime from = LocalDateTime.now().minusSeconds(1);
+        OrderController.CreateOrderItemRequest item =
+                new OrderController.CreateOrderItemRequest("Test Product", 12.5, "USD", 2);
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(
+                            new OrderController.CreateOrderRequest(customer.id(), List.of(item)))))
+                    .andExpect(status().isCreated());
+        }
+        LocalDateTime to = LocalDateTime.now().plusSeconds(1);
+
+        String ndjson = mockMvc.perform(get("/api/orders/export")
+                .param("from", from.toString())
+                .param("to", to.toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = ndjson.lines().filter(line -> line.contains(customer.id())).toList();
+        assertEquals(2, lines.size());
+        assertEquals(25.0, objectMapper.readValue(lines.get(0), OrderController.OrderSummaryResponse.class).totalAmount());
+
+        String csv = mockMvc.perform(get("/api/orders/export")
+                .param("from", from.toString())
+                .param("to", to.toString())
+                .param("format", "csv"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(csv.startsWith("id,customerId,status,totalAmount,currency,createdAt,confirmedAt\n"));
+        assertEquals(2, csv.lines().filter(line -> line.contains(customer.id() + ",CREATED,25.00,USD,")).count());
+
+        mockMvc.perform(get("/api/orders/export").param("from", to.toString()).param("to", from.toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldKeepCustomerSummaryUpToDateAndRebuildIt() throws Exception {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        String customerResponse = mockMvc.perform(post("/api/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new CustomerController.CreateCustomerRequest("Summary Customer", "summary@example.com"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        CustomerController.CustomerResponse customer =
+                objectMapper.readValue(customerResponse, CustomerController.CustomerResponse.class);
+
+        mockMvc.perform(get("/api/customers/" + customer.id() + "/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalOrders").value(0))
+                .andExpect(jsonPath("$.paidTotals.length()").value(0));
+
+        OrderController.CreateOrderItemRequest item =
+                new OrderController.CreateOrderItemRequest("Test Product", 10.0, "USD", 2);
+        List<String> orderIds = new java.util.ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            String orderResponse = mockMvc.perform(post("/api/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(
+                            new OrderController.CreateOrderRequest(customer.id(), List.of(item)))))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString();
+            orderIds.add(objectMapper.readValue(orderResponse, OrderController.OrderResponse.class).id());
+        }
+        mockMvc.perform(post("/api/orders/" + orderIds.get(0) + "/confirm"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/customers/" + customer.id() + "/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalOrders").value(2))
+                .andExpect(jsonPath("$.ordersByStatus.CREATED").value(1))
+                .andExpect(jsonPath("$.ordersByStatus.PAID").value(1))
+                .andExpect(jsonPath("$.paidTotals[0].amount").value(20.0))
+                .andExpect(jsonPath("$.paidTotals[0].currency").value("USD"))
+                .andExpect(jsonPath("$.lastOrderAt").exists());
+
+        // A rebuild from the orders table yields the same figures
+        mockMvc.perform(post("/api/customers/summaries/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customers").isNumber());
+
+        mockMvc.perform(get("/api/customers/" + customer.id() + "/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalOrders").value(2))
+                .andExpect(jsonPath("$.ordersByStatus.PAID").value(1))
+                .andExpect(jsonPath("$.paidTotals[0].amount").value(20.0));
+
+        mockMvc.perform(get("/api/customers/" + java.util.UUID.randomUUID() + "/summary"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldReplayCreateAndConfirmForRepeatedIdempotencyKey() throws Exception {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).addFilters(idempotencyFilter).build();
+
+        String customerResponse = mockMvc.perform(post("/api/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new CustomerController.CreateCustomerRequest("Retrying Client", "retry@example.com"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        CustomerController.CustomerResponse customer =
+                objectMapper.readValue(customerResponse, CustomerController.CustomerResponse.class);
+
+        String createBody = objectMapper.writeValueAsString(new OrderController.CreateOrderRequest(customer.id(),
+                List.of(new OrderController.CreateOrderItemRequest("Test Product", 10.0, "USD", 1))));
+        String key = java.util.UUID.randomUUID().toString();
+
+        String first = mockMvc.perform(post("/api/orders")
+                .header("Idempotency-Key", key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(createBody))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn().getResponse().getContentAsString();
+
+        // The retry gets the same order back and no second order is created
+        mockMvc.perform(post("/api/orders")
+                .header("Idempotency-Key", key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(createBody))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(content().json(first, true));
+
+        mockMvc.perform(get("/api/orders").param("customerId", customer.id()))
+                .andExpect(jsonPath("$.orders.length()").value(1));
+
+        // Reusing the key for a different order is rejected rather than answered with the first order
+        String otherBody = objectMapper.writeValueAsString(new OrderController.CreateOrderRequest(customer.id(),
+                List.of(new OrderController.CreateOrderItemRequest("Other Product", 20.0, "USD", 2))));
+        mockMvc.perform(post("/api/orders")
+                .header("Idempotency-Key", key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(otherBody))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+        mockMvc.perform(get("/api/orders").param("customerId", customer.id()))
+                .andExpect(jsonPath("$.orders.length()").value(1));
+
+        // The same key on confirm is a different operation; its retry replays the first outcome
+        String orderId = objectMapper.readValue(first, OrderController.OrderResponse.class).id();
+        MvcResult confirmed = mockMvc.perform(post("/api/orders/" + orderId + "/confirm").header("Idempotency-Key", key))
+                .andReturn();
+        mockMvc.perform(post("/api/orders/" + orderId + "/confirm").header("Idempotency-Key", key))
+                .andExpect(status().is(confirmed.getResponse().getStatus()))
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(content().string(confirmed.getResponse().getContentAsString()));
+    }
+
+    @Test
+    void shouldPublishPortUseCaseAndPoolMetricsForPrometheus() throws Exception {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        String customerResponse = mockMvc.perform(post("/api/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new CustomerController.CreateCustomerRequest("Observed", "observed@example.com"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String customerId = objectMapper.readValue(customerResponse, CustomerController.CustomerResponse.class).id();
+        String orderResponse = mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OrderController.CreateOrderRequest(customerId,
+                                List.of(new OrderController.CreateOrderItemRequest("Observed", 10.0, "USD", 1))))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(get("/api/orders/" + objectMapper.readValue(orderResponse, OrderController.OrderResponse.class).id()))
+                .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(scrape.contains("orders_port_seconds_count{component=\"CustomerRepositoryAdapter\",error=\"none\",layer=\"port\",method=\"save\""));
+        // The order cache and the adapter it wraps both implement the port; the nested call is tagged apart
+        assertTrue(scrape.contains("orders_port_seconds_count{component=\"CachingOrderRepositoryAdapter\",error=\"none\",layer=\"port\",method=\"findById\""));
+        assertTrue(scrape.contains("orders_port_seconds_count{component=\"OrderRepositoryAdapter\",error=\"none\",layer=\"delegate\",method=\"findById\""));
+        assertTrue(scrape.contains("orders_usecase_seconds_count{component=\"CreateCustomerUseCase\",error=\"none\",method=\"execute\""));
+        assertTrue(scrape.contains("orders_usecase_seconds_bucket{"));
+        assertTrue(scrape.contains("orders_port_active_seconds_active_count{"));
+        assertTrue(scrape.contains("hikaricp_connections_active{"));
+        assertTrue(scrape.contains("hibernate_sessions_open_total{"));
+    }
 }
\ No newline at end of file
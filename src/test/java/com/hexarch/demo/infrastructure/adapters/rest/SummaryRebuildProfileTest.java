@@ -0,0 +1,56 @@
+package com.hexarch.demo.infrastructure.adapters.rest;
+
+import com.hexarch.demo.application.usecases.CreateCustomerUseCase;
+import com.hexarch.demo.application.usecases.CreateOrderUseCase;
+import com.hexarch.demo.domain.model.Customer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Orders live in the event store, so the SQL orders table the rebuild reads from is empty
+@SpringBootTest(properties = {
+        "orders.email.outbox.dispatcher.enabled=false",
+        "orders.event-store.directory=target/summary-rebuild-event-store",
+        "spring.datasource.url=jdbc:h2:mem:summary-rebuild;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@ActiveProfiles({"test", "event-store"})
+class SummaryRebuildProfileTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private CreateCustomerUseCase createCustomerUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Test
+    void shouldRefuseRebuildWithoutWipingStats() throws Exception {
+        // Given
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        Customer customer = createCustomerUseCase.execute(new CreateCustomerUseCase.CreateCustomerCommand(
+                "Event Store", "event-store-" + System.nanoTime() + "@example.com"));
+        createOrderUseCase.execute(new CreateOrderUseCase.CreateOrderCommand(customer.getId(), List.of(
+                new CreateOrderUseCase.CreateOrderItemCommand("Product A", 10.0, "USD", 1))));
+
+        // When & Then
+        mockMvc.perform(post("/api/customers/summaries/rebuild"))
+                .andExpect(status().isNotImplemented());
+        mockMvc.perform(get("/api/customers/" + customer.getId() + "/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalOrders").value(1))
+                .andExpect(jsonPath("$.ordersByStatus.CREATED").value(1));
+    }
+}
\ No newline at end of file
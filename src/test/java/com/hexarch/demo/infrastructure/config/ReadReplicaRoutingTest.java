@@ -0,0 +1,146 @@
+package com.hexarch.demo.infrastructure.config;
+
+import com.hexarch.demo.application.usecases.ConfirmOrderUseCase;
+import com.hexarch.demo.application.usecases.CreateCustomerUseCase;
+import com.hexarch.demo.application.usecases.CreateOrderUseCase;
+import com.hexarch.demo.application.usecases.GetOrderUseCase;
+import com.hexarch.demo.application.usecases.ListOrdersUseCase;
+import com.hexarch.demo.domain.model.Customer;
+import com.hexarch.demo.domain.model.Money;
+import com.hexarch.demo.domain.model.Order;
+import com.hexarch.demo.domain.model.OrderId;
+import com.hexarch.demo.domain.model.OrderStatus;
+import com.hexarch.demo.domain.ports.OrderRepository;
+import com.hexarch.demo.domain.ports.PaymentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+// Two H2 databases stand in for the primary and its replica; replicate() copies the primary over, so
+// until it runs the replica lags behind like a real one would. The order cache is on, as in production.
+@SpringBootTest(properties = {
+        "orders.email.outbox.dispatcher.enabled=false",
+        "orders.datasource.replica.enabled=true",
+        "orders.datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "orders.datasource.replica.max-lag=1m"})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private CreateCustomerUseCase createCustomerUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private ConfirmOrderUseCase confirmOrderUseCase;
+
+    @Autowired
+    private GetOrderUseCase getOrderUseCase;
+
+    @Autowired
+    private ListOrdersUseCase listOrdersUseCase;
+
+    @MockBean
+    private PaymentService paymentService;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        when(paymentService.processPayment(anyString(), any(Money.class))).thenReturn(true);
+        replicate();
+        customer = createCustomerUseCase.execute(new CreateCustomerUseCase.CreateCustomerCommand(
+                "Replica Customer", "replica-" + System.nanoTime() + "@example.com"));
+    }
+
+    @Test
+    void shouldServeReadOnlyUseCasesFromTheReplica() {
+        // Given: an order committed on the primary that the replica has not caught up with
+        Order order = createOrder();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> getOrderUseCase.execute(new GetOrderUseCase.GetOrderQuery(order.getId())));
+        assertTrue(listOrders().isEmpty());
+
+        // When: the replica catches up
+        replicate();
+
+        // Then
+        assertEquals(OrderStatus.CREATED,
+                getOrderUseCase.execute(new GetOrderUseCase.GetOrderQuery(order.getId())).getStatus());
+        assertEquals(List.of(order.getId()), listOrders());
+    }
+
+    @Test
+    void shouldKeepWritersAndTheirReadsOnThePrimary() {
+        // Given: the replica has neither the customer nor the order
+        Order order = createOrder();
+
+        // When
+        confirmOrderUseCase.execute(new ConfirmOrderUseCase.ConfirmOrderCommand(order.getId()));
+        replicate();
+
+        // Then
+        assertEquals(OrderStatus.PAID,
+                getOrderUseCase.execute(new GetOrderUseCase.GetOrderQuery(order.getId())).getStatus());
+    }
+
+    @Test
+    void shouldNotCacheStaleReplicaRowsOfRecentWrites() {
+        // Given: the replica still has the order as CREATED after it was paid on the primary
+        Order order = createOrder();
+        replicate();
+        confirmOrderUseCase.execute(new ConfirmOrderUseCase.ConfirmOrderCommand(order.getId()));
+
+        // When & Then: the lookup lags with the replica
+        assertEquals(OrderStatus.CREATED,
+                getOrderUseCase.execute(new GetOrderUseCase.GetOrderQuery(order.getId())).getStatus());
+
+        // When: the replica catches up
+        replicate();
+
+        // Then: the stale row was not kept for the cache TTL
+        assertEquals(OrderStatus.PAID,
+                getOrderUseCase.execute(new GetOrderUseCase.GetOrderQuery(order.getId())).getStatus());
+    }
+
+    private Order createOrder() {
+        return createOrderUseCase.execute(new CreateOrderUseCase.CreateOrderCommand(customer.getId(), List.of(
+                new CreateOrderUseCase.CreateOrderItemCommand("Product A", 10.0, "USD", 1))));
+    }
+
+    private List<OrderId> listOrders() {
+        return listOrdersUseCase.execute(new ListOrdersUseCase.ListOrdersQuery(customer.getId(), null, null, null, 10))
+                .orders().stream().map(OrderRepository.OrderSummary::orderId).toList();
+    }
+
+    private void replicate() {
+        List<String> script = new JdbcTemplate(primaryDataSource).queryForList("SCRIPT", String.class);
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("DROP ALL OBJECTS");
+        script.forEach(replica::execute);
+    }
+}
\ No newline at end of file